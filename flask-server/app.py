@@ -1,6 +1,7 @@
 from flask import Flask, request, jsonify
 import pika
 import json
+import base64
 from analyze import analyze_image_base64
 from dotenv import load_dotenv
 import os
@@ -37,10 +38,18 @@ logger.info("✅ Flask 서버 시작")
 @app.route('/analyze', methods=['POST'])
 def analyze():
     try:
-        data = request.get_json()
-        note_image_id = data.get('noteImageId')
-        image_base64 = data.get('imageBase64')
-        file_name = data.get('fileName')
+        if request.content_type and request.content_type.startswith('multipart/form-data'):
+            # 바이너리 전송 모드: 이미지 파일 파트를 받아 여기서 base64 인코딩
+            note_image_id = request.form.get('noteImageId')
+            file_name = request.form.get('fileName')
+            image_file = request.files.get('image')
+            image_base64 = base64.b64encode(image_file.read()).decode('ascii') if image_file else None
+        else:
+            # JSON 모드 (기존 계약 / 스트리밍 base64)
+            data = request.get_json()
+            note_image_id = data.get('noteImageId')
+            image_base64 = data.get('imageBase64')
+            file_name = data.get('fileName')
 
         logger.info(f"📥 받은 요청 - ID: {note_image_id}, file: {file_name}, base64 length: {len(image_base64) if image_base64 else 'N/A'}")
 
@@ -0,0 +1,143 @@
+import pika
+import json
+import base64
+from analyze import analyze_image_base64
+from dotenv import load_dotenv
+import os
+import logging
+import sys
+
+# ──────────────── 1. 환경 변수 로드 ────────────────
+load_dotenv()
+
+# ──────────────── 2. 로깅 설정 ────────────────
+logging.basicConfig(
+    level=logging.INFO,
+    format="%(asctime)s [%(levelname)s] %(message)s",
+    handlers=[logging.StreamHandler(sys.stdout)]
+)
+logger = logging.getLogger(__name__)
+
+MQ_URL = os.getenv('RABBITMQ_URL')
+MQ_RESULT_QUEUE = os.getenv('RABBITMQ_RESULT_QUEUE')
+MQ_REQUEST_QUEUE = os.getenv('RABBITMQ_REQUEST_QUEUE', 'note.analyze.request')
+
+# 워커 하나가 동시에 처리하는 메시지 수 (부하 평준화: 나머지는 큐에 남아 다른 워커가 가져감)
+PREFETCH_COUNT = int(os.getenv('RABBITMQ_PREFETCH_COUNT', '1'))
+
+# 처리 실패 시 지연 재시도: retry 큐에서 TTL만큼 대기 후 요청 큐로 dead-letter
+MQ_RETRY_QUEUE = os.getenv('RABBITMQ_RETRY_QUEUE', MQ_REQUEST_QUEUE + '.retry')
+MAX_ATTEMPTS = int(os.getenv('ANALYZE_MAX_ATTEMPTS', '3'))
+RETRY_DELAY_MS = int(os.getenv('ANALYZE_RETRY_DELAY_MS', '10000'))
+
+# 이미지 저장소 (Spring note.storage.* 와 같은 곳을 읽음)
+LOCAL_STORAGE_ROOT = os.path.realpath(os.getenv('NOTE_STORAGE_LOCAL_ROOT', '/data/noteImages'))
+S3_ENDPOINT = os.getenv('S3_ENDPOINT') or None
+S3_BUCKET = os.getenv('S3_BUCKET', 'note-images')
+_s3_client = None
+
+
+def _s3():
+    global _s3_client
+    if _s3_client is None:
+        import boto3
+        _s3_client = boto3.client(
+            's3',
+            endpoint_url=S3_ENDPOINT,
+            region_name=os.getenv('S3_REGION', 'ap-northeast-2'),
+            aws_access_key_id=os.getenv('S3_ACCESS_KEY') or None,
+            aws_secret_access_key=os.getenv('S3_SECRET_KEY') or None,
+        )
+    return _s3_client
+
+
+def load_image(headers, body):
+    # 이전 형식(이미지 바이트를 body로 보낸 메시지)도 처리
+    if body:
+        return body
+
+    storage_key = headers.get('storageKey')
+    if not storage_key:
+        raise ValueError('storageKey header is required')
+
+    if str(headers.get('storageType', 'LOCAL')).upper() == 'S3':
+        return _s3().get_object(Bucket=S3_BUCKET, Key=storage_key)['Body'].read()
+
+    path = os.path.realpath(os.path.join(LOCAL_STORAGE_ROOT, storage_key))
+    if not path.startswith(LOCAL_STORAGE_ROOT + os.sep):
+        raise ValueError(f'invalid storageKey: {storage_key}')
+    with open(path, 'rb') as f:
+        return f.read()
+
+
+def publish_result(channel, result):
+    channel.basic_publish(
+        exchange='',
+        routing_key=MQ_RESULT_QUEUE,
+        body=json.dumps(result),
+        properties=pika.BasicProperties(delivery_mode=2, content_type='application/json')
+    )
+
+
+# ──────────────── 3. 분석 요청 처리 ────────────────
+def on_request(channel, method, properties, body):
+    headers = properties.headers or {}
+    note_image_id = headers.get('noteImageId')
+    file_name = headers.get('fileName')
+    attempt = int(headers.get('x-attempt', 1))
+
+    try:
+        logger.info(f"📥 MQ 요청 수신 - ID: {note_image_id}, file: {file_name}, key: {headers.get('storageKey')}, attempt: {attempt}")
+        image_base64 = base64.b64encode(load_image(headers, body)).decode('ascii')
+        result = analyze_image_base64(image_base64, file_name, note_image_id)
+
+        publish_result(channel, result)
+        logger.info("📤 MQ 결과 전송 성공")
+    except Exception as e:
+        logger.error("❌ MQ 요청 처리 실패 (attempt %d/%d): %s", attempt, MAX_ATTEMPTS, e)
+        if note_image_id is None:
+            logger.error("❌ noteImageId 없는 요청은 폐기")
+        elif attempt < MAX_ATTEMPTS:
+            # Outbox는 publisher confirm 시점에 이미 SENT → 여기서 버리면 이미지가 영원히 대기 상태로 남음
+            channel.basic_publish(
+                exchange='',
+                routing_key=MQ_RETRY_QUEUE,
+                body=body,
+                properties=pika.BasicProperties(
+                    delivery_mode=2,
+                    content_type=properties.content_type,
+                    message_id=properties.message_id,
+                    headers={**headers, 'x-attempt': attempt + 1}
+                )
+            )
+        else:
+            # 재시도 한도 초과: 실패 결과를 보내 Spring이 이미지를 ERROR로 표시
+            publish_result(channel, {
+                "noteImageId": note_image_id,
+                "recognizedText": None,
+                "status": "error",
+                "message": str(e)
+            })
+    # 결과/재시도 메시지를 보낸 뒤 ack (그 전에 죽으면 브로커가 재전달)
+    channel.basic_ack(delivery_tag=method.delivery_tag)
+
+
+# ──────────────── 4. 실행 ────────────────
+if __name__ == '__main__':
+    connection = pika.BlockingConnection(pika.URLParameters(MQ_URL))
+    channel = connection.channel()
+    channel.queue_declare(queue=MQ_REQUEST_QUEUE, durable=True)
+    channel.queue_declare(queue=MQ_RESULT_QUEUE, durable=True)
+    channel.queue_declare(queue=MQ_RETRY_QUEUE, durable=True, arguments={
+        'x-message-ttl': RETRY_DELAY_MS,
+        'x-dead-letter-exchange': '',
+        'x-dead-letter-routing-key': MQ_REQUEST_QUEUE,
+    })
+    channel.basic_qos(prefetch_count=PREFETCH_COUNT)
+    channel.basic_consume(queue=MQ_REQUEST_QUEUE, on_message_callback=on_request)
+
+    logger.info(f"✅ 분석 워커 시작 (queue: {MQ_REQUEST_QUEUE}, prefetch: {PREFETCH_COUNT})")
+    try:
+        channel.start_consuming()
+    finally:
+        connection.close()
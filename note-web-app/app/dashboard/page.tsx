@@ -45,6 +45,8 @@ interface Note {
   images?: Array<{
     imageId: number
     imageUrl: string
+    thumbnailUrl?: string | null
+    previewUrl?: string | null
     analysisResult?: string
     noteImageStatus: "NOT_RECOGNIZED" | "DONE"
   }>
@@ -56,6 +58,8 @@ export default function DashboardPage() {
   const [notes, setNotes] = useState<Note[]>([])
   const [searchQuery, setSearchQuery] = useState("")
   const [isLoading, setIsLoading] = useState(true)
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
   const [user, setUser] = useState({ name: "사용자", email: "user@example.com" })
   const [isClient, setIsClient] = useState(false)
   const router = useRouter()
@@ -84,16 +88,22 @@ export default function DashboardPage() {
     fetchUserInfo()
   }, [isClient, router])
 
-  const fetchNotes = async () => {
+  // 한 페이지씩 로드: cursor가 없으면 첫 페이지(목록 교체), 있으면 다음 페이지(뒤에 추가)
+  const fetchNotes = async (cursor: string | null = null) => {
     if (!authUtils.isClient()) return
 
-    // 먼저 캐시된 데이터 확인
-    const cachedNotes = notesCache.getNotes()
-    if (cachedNotes.length > 0) {
-      console.log("[대시보드] 캐시된 노트 사용")
-      setNotes(cachedNotes)
-      setIsLoading(false)
-      return
+    // 첫 페이지는 캐시된 데이터 먼저 확인
+    if (!cursor) {
+      const cachedNotes = notesCache.getNotes()
+      if (cachedNotes.length > 0) {
+        console.log("[대시보드] 캐시된 노트 사용")
+        setNotes(cachedNotes)
+        setNextCursor(notesCache.getNextCursor())
+        setIsLoading(false)
+        return
+      }
+    } else {
+      setIsLoadingMore(true)
     }
 
     try {
@@ -103,9 +113,10 @@ export default function DashboardPage() {
         return
       }
 
-      console.log("[대시보드] API에서 노트 목록 요청 중...")
+      console.log("[대시보드] API에서 노트 목록 요청 중...", cursor ? "(다음 페이지)" : "")
 
-      const response = await fetch(`${API_BASE_URL}/notes/my-notes`, {
+      const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : ""
+      const response = await fetch(`${API_BASE_URL}/notes/my-notes${query}`, {
         headers: {
           Authorization: `Bearer ${token}`,
         },
@@ -117,9 +128,10 @@ export default function DashboardPage() {
         console.log("[대시보드] API 응답:", data)
 
         // 🔥 API 명세에 맞게 데이터 정규화
-        const notesArray = Array.isArray(data) ? data : data.result || []
+        const notesArray = Array.isArray(data) ? data : data.result?.notes || data.result || []
+        const next: string | null = data.result?.hasNext ? data.result.nextCursor : null
 
-        const validatedNotes = notesArray.map((note: any) => ({
+        const validatedNotes: Note[] = notesArray.map((note: any) => ({
           noteId: note.noteId || note.id,
           title: note.title || "제목 없음",
           content: note.content || "",
@@ -131,21 +143,26 @@ export default function DashboardPage() {
 
         console.log("[대시보드] 정규화된 노트:", validatedNotes)
 
-        // 🔥 캐시에 저장
-        notesCache.saveNotes(validatedNotes)
-        setNotes(validatedNotes)
+        // 🔥 캐시에 저장 (지금까지 로드한 페이지 + 다음 커서)
+        setNotes((prevNotes) => {
+          const merged = cursor ? [...prevNotes, ...validatedNotes] : validatedNotes
+          notesCache.saveNotes(merged, next)
+          return merged
+        })
+        setNextCursor(next)
       } else if (response.status === 401 || response.status === 403) {
         console.log("[대시보드] 인증 에러 - 로그아웃 처리")
         authUtils.logout("세션이 만료되었습니다.")
       } else {
         console.error("[대시보드] 노트 조회 실패:", response.status)
-        setNotes([])
+        if (!cursor) setNotes([])
       }
     } catch (error) {
       console.error("[대시보드] 노트 조회 에러:", error)
-      setNotes([])
+      if (!cursor) setNotes([])
     } finally {
       setIsLoading(false)
+      setIsLoadingMore(false)
     }
   }
 
@@ -271,8 +288,10 @@ export default function DashboardPage() {
     const firstImage = note.images?.[0]
     if (!firstImage) return null
 
-    const normalizedUrl = imageUtils.normalizeImageUrl(firstImage.imageUrl)
-    imageUtils.debugImageUrl(firstImage.imageUrl, normalizedUrl)
+    // 목록 카드는 썸네일 사용 (이전 데이터는 원본)
+    const imageUrl = firstImage.thumbnailUrl || firstImage.imageUrl
+    const normalizedUrl = imageUtils.normalizeImageUrl(imageUrl)
+    imageUtils.debugImageUrl(imageUrl, normalizedUrl)
     return normalizedUrl
   }
 
@@ -514,6 +533,21 @@ export default function DashboardPage() {
             ))}
           </div>
         )}
+
+        {/* 다음 페이지는 요청할 때만 로드 */}
+        {!isLoading && nextCursor && (
+          <div className="flex justify-center mt-8">
+            <Button
+              variant="outline"
+              onClick={() => fetchNotes(nextCursor)}
+              disabled={isLoadingMore}
+              className="border-rose-200 text-rose-600 hover:bg-rose-50"
+            >
+              {isLoadingMore && <Loader2 className="mr-2 h-4 w-4 animate-spin" />}
+              더 보기
+            </Button>
+          </div>
+        )}
       </div>
     </div>
   )
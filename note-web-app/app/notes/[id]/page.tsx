@@ -32,6 +32,8 @@ const API_BASE_URL = process.env.NEXT_PUBLIC_API_BASE_URL || "/api/proxy"
 interface NoteImage {
   imageId: number
   imageUrl: string
+  thumbnailUrl?: string | null
+  previewUrl?: string | null
   analysisResult?: string
   noteImageStatus: "NOT_RECOGNIZED" | "DONE"
 }
@@ -55,9 +57,9 @@ export default function NoteDetailPage() {
   const params = useParams()
   const noteId = params.id as string
 
-  // 폴링 관리를 위한 ref
-  const pollingIntervalRef = useRef<NodeJS.Timeout | null>(null)
-  const isPollingRef = useRef(false)
+  // 상태 스트림(SSE) 관리를 위한 ref
+  const streamAbortRef = useRef<AbortController | null>(null)
+  const isStreamingRef = useRef(false)
   const isMountedRef = useRef(true)
 
   useEffect(() => {
@@ -71,11 +73,9 @@ export default function NoteDetailPage() {
 
     return () => {
       isMountedRef.current = false
-      if (pollingIntervalRef.current) {
-        console.log("[노트상세] 컴포넌트 언마운트 - 폴링 정리")
-        clearInterval(pollingIntervalRef.current)
-        pollingIntervalRef.current = null
-        isPollingRef.current = false
+      if (streamAbortRef.current) {
+        console.log("[노트상세] 컴포넌트 언마운트 - 상태 스트림 정리")
+        stopStatusStream()
       }
     }
   }, [noteId])
@@ -86,99 +86,115 @@ export default function NoteDetailPage() {
     const hasUnreadImages = note.images?.some((img) => img.noteImageStatus === "NOT_RECOGNIZED") || false
     const hasImages = note.images && note.images.length > 0
 
-    if (hasImages && hasUnreadImages && !isPollingRef.current) {
-      console.log("[노트상세] 마음을 읽지 않은 손글씨 발견 - 폴링 시작")
-      startPolling()
-    } else if (!hasUnreadImages && isPollingRef.current) {
-      console.log("[노트상세] 모든 마음 읽기 완료 - 폴링 중단")
-      stopPolling()
+    if (hasImages && hasUnreadImages && !isStreamingRef.current) {
+      console.log("[노트상세] 마음을 읽지 않은 손글씨 발견 - 상태 구독 시작")
+      startStatusStream()
+    } else if (!hasUnreadImages && isStreamingRef.current) {
+      console.log("[노트상세] 모든 마음 읽기 완료 - 상태 구독 중단")
+      stopStatusStream()
     }
   }, [note])
 
-  const startPolling = () => {
-    if (isPollingRef.current || !isMountedRef.current) return
+  // 서버가 보낸 이미지 상태(snapshot/status 이벤트)를 현재 노트에 반영
+  const applyImageStatuses = (statuses: { imageId: number; noteImageStatus: string; analysisResult?: string }[]) => {
+    setNote((prev) => {
+      if (!prev) return prev
 
-    isPollingRef.current = true
+      const images = prev.images.map((img) => {
+        const status = statuses.find((s) => s.imageId === img.imageId)
+        if (!status) return img
+        if (status.noteImageStatus === "DONE" && img.noteImageStatus === "NOT_RECOGNIZED") {
+          console.log("[노트상세] 새로운 마음 읽기 완료!")
+        }
+        return {
+          ...img,
+          noteImageStatus: status.noteImageStatus as NoteImage["noteImageStatus"],
+          analysisResult: status.analysisResult ?? img.analysisResult,
+        }
+      })
+
+      const updated = { ...prev, images }
+      notesCache.updateNote(updated)
+      return updated
+    })
+  }
+
+  const startStatusStream = async () => {
+    if (isStreamingRef.current || !isMountedRef.current) return
+
+    const token = localStorage.getItem("accessToken")
+    if (!token) return
+
+    // EventSource는 Authorization 헤더를 보낼 수 없으므로 fetch 스트림으로 SSE를 직접 읽음
+    const controller = new AbortController()
+    streamAbortRef.current = controller
+    isStreamingRef.current = true
     setIsReadingHeart(true)
     setPollingCount(0)
 
-    pollingIntervalRef.current = setInterval(async () => {
-      if (!isMountedRef.current) {
-        stopPolling()
+    try {
+      const response = await fetch(`${API_BASE_URL}/notes/${noteId}/status-stream`, {
+        headers: {
+          Authorization: `Bearer ${token}`,
+          Accept: "text/event-stream",
+        },
+        credentials: "include",
+        signal: controller.signal,
+      })
+
+      if (!response.ok || !response.body) {
+        console.log("[노트상세] 상태 구독 실패:", response.status)
+        stopStatusStream()
         return
       }
 
-      console.log("[노트상세] 마음 읽기 확인 중... (", pollingCount + 1, "회)")
-      setPollingCount((prev) => prev + 1)
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+      let buffer = ""
 
-      try {
-        const token = localStorage.getItem("accessToken")
-        if (!token) {
-          stopPolling()
-          return
-        }
+      while (true) {
+        const { value, done } = await reader.read()
+        if (done) break
 
-        const response = await fetch(`${API_BASE_URL}/notes/${noteId}`, {
-          headers: {
-            Authorization: `Bearer ${token}`,
-          },
-          credentials: "include",
-        })
+        buffer += value
+        const frames = buffer.split("\n\n")
+        buffer = frames.pop() || ""
 
-        if (!isMountedRef.current) {
-          stopPolling()
-          return
-        }
+        for (const frame of frames) {
+          const dataLines = frame
+            .split("\n")
+            .filter((line) => line.startsWith("data:"))
+            .map((line) => line.slice(5).trim())
+          if (dataLines.length === 0) continue // heartbeat(주석) 라인
 
-        if (response.ok) {
-          const data = await response.json()
-          console.log("[노트상세] 폴링 응답:", data)
-
-          const noteData = data.result || data
-          const validatedNote: Note = {
-            noteId: noteData.noteId || Number.parseInt(noteId),
-            title: noteData.title || "제목 없음",
-            content: noteData.content || "",
-            images: noteData.images || [],
-            createdAt: noteData.createdAt || new Date().toISOString(),
-            updatedAt: noteData.updatedAt || noteData.createdAt || new Date().toISOString(),
-          }
-
-          const hasNewHeartReading = validatedNote.images.some((img, index) => {
-            const oldImg = note?.images?.[index]
-            return img.noteImageStatus === "DONE" && oldImg?.noteImageStatus === "NOT_RECOGNIZED"
-          })
-
-          if (hasNewHeartReading) {
-            console.log("[노트상세] 새로운 마음 읽기 완료!")
-          }
-
-          notesCache.updateNote(validatedNote)
-          setNote(validatedNote)
-
-          const allRead = validatedNote.images.every((img) => img.noteImageStatus === "DONE")
-          if (allRead || validatedNote.images.length === 0) {
-            console.log("[노트상세] 모든 마음 읽기 완료 - 폴링 중단")
-            stopPolling()
-          }
-        } else if (response.status === 401 || response.status === 403) {
-          console.log("[노트상세] 인증 에러 - 폴링 중단")
-          stopPolling()
+          console.log("[노트상세] 상태 이벤트 수신")
+          setPollingCount((prev) => prev + 1)
+          applyImageStatuses(JSON.parse(dataLines.join("\n")))
         }
-      } catch (error) {
-        console.error("[노트상세] 폴링 에러:", error)
       }
-    }, 2000)
+    } catch (error) {
+      if (!controller.signal.aborted) {
+        console.error("[노트상세] 상태 스트림 에러:", error)
+      }
+    }
+
+    // 서버 타임아웃 등으로 끊겼지만 아직 읽을 손글씨가 남아 있으면 다시 구독
+    if (streamAbortRef.current === controller && !controller.signal.aborted) {
+      isStreamingRef.current = false
+      streamAbortRef.current = null
+      if (isMountedRef.current) {
+        setTimeout(() => setNote((prev) => (prev ? { ...prev } : prev)), 2000)
+      }
+    }
   }
 
-  const stopPolling = () => {
-    if (pollingIntervalRef.current) {
-      clearInterval(pollingIntervalRef.current)
-      pollingIntervalRef.current = null
+  const stopStatusStream = () => {
+    if (streamAbortRef.current) {
+      streamAbortRef.current.abort()
+      streamAbortRef.current = null
     }
-    isPollingRef.current = false
+    isStreamingRef.current = false
     setIsReadingHeart(false)
-    console.log("[노트상세] 폴링 중단됨")
+    console.log("[노트상세] 상태 구독 중단됨")
   }
 
   const fetchNote = async () => {
@@ -414,7 +430,7 @@ export default function NoteDetailPage() {
                     {note.images.map((image, index) => (
                       <div key={image.imageId} className="relative">
                         <img
-                          src={imageUtils.normalizeImageUrl(image.imageUrl) || "/placeholder.svg"}
+                          src={imageUtils.normalizeImageUrl(image.previewUrl || image.imageUrl) || "/placeholder.svg"}
                           alt={`손글씨 ${index + 1}`}
                           className="w-full h-48 object-cover rounded-lg border border-rose-200"
                           onError={imageUtils.handleImageError}
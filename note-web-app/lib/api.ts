@@ -19,8 +19,10 @@ class ApiClient {
         const refreshToken = localStorage.getItem("refreshToken")
         if (refreshToken) {
           try {
+            // HttpOnly refresh_token 쿠키가 있으면 서버가 우선 사용, 없으면 바디의 토큰 사용
             const refreshResponse = await fetch(`${API_BASE_URL}/auth/refresh`, {
               method: "POST",
+              credentials: "include",
               headers: {
                 "Content-Type": "application/json",
               },
@@ -29,7 +31,9 @@ class ApiClient {
 
             if (refreshResponse.ok) {
               const data = await refreshResponse.json()
-              localStorage.setItem("accessToken", data.accessToken)
+              localStorage.setItem("accessToken", data.result.accessToken)
+              // refresh 토큰은 재발급마다 교체됨 (이전 토큰 재사용 시 서버가 로그인 전체를 폐기)
+              localStorage.setItem("refreshToken", data.result.refreshToken)
               return { success: true, needsRetry: true }
             }
           } catch (error) {
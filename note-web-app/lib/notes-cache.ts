@@ -6,6 +6,8 @@ interface Note {
   images?: Array<{
     imageId: number
     imageUrl: string
+    thumbnailUrl?: string | null
+    previewUrl?: string | null
     analysisResult?: string
     noteImageStatus: "NOT_RECOGNIZED" | "DONE"
   }>
@@ -17,18 +19,26 @@ export const notesCache = {
   // 캐시 키
   CACHE_KEY: "noteai_notes_cache",
   CACHE_TIMESTAMP_KEY: "noteai_notes_cache_timestamp",
+  NEXT_CURSOR_KEY: "noteai_notes_cache_next_cursor",
   CACHE_DURATION: 5 * 60 * 1000, // 5분
 
   // 클라이언트 사이드 체크
   isClient: () => typeof window !== "undefined",
 
-  // 노트 리스트 저장
-  saveNotes: (notes: Note[]) => {
+  // 노트 리스트 저장 (nextCursor를 넘기면 "더 보기" 커서도 함께 저장, 생략하면 기존 커서 유지)
+  saveNotes: (notes: Note[], nextCursor?: string | null) => {
     if (!notesCache.isClient()) return
 
     try {
       localStorage.setItem(notesCache.CACHE_KEY, JSON.stringify(notes))
       localStorage.setItem(notesCache.CACHE_TIMESTAMP_KEY, Date.now().toString())
+      if (nextCursor !== undefined) {
+        if (nextCursor) {
+          localStorage.setItem(notesCache.NEXT_CURSOR_KEY, nextCursor)
+        } else {
+          localStorage.removeItem(notesCache.NEXT_CURSOR_KEY)
+        }
+      }
       console.log("[노트캐시] 노트 리스트 저장 완료:", notes.length, "개")
     } catch (error) {
       console.error("[노트캐시] 저장 실패:", error)
@@ -65,6 +75,12 @@ export const notesCache = {
     }
   },
 
+  // 캐시된 목록 다음 페이지 커서 (없으면 마지막 페이지까지 로드된 상태)
+  getNextCursor: (): string | null => {
+    if (!notesCache.isClient()) return null
+    return localStorage.getItem(notesCache.NEXT_CURSOR_KEY)
+  },
+
   // 특정 노트 조회
   getNote: (noteId: string): Note | null => {
     const notes = notesCache.getNotes()
@@ -124,6 +140,7 @@ export const notesCache = {
 
     localStorage.removeItem(notesCache.CACHE_KEY)
     localStorage.removeItem(notesCache.CACHE_TIMESTAMP_KEY)
+    localStorage.removeItem(notesCache.NEXT_CURSOR_KEY)
     console.log("[노트캐시] 캐시 클리어 완료")
   },
 
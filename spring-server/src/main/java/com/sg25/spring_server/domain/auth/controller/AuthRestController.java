@@ -2,13 +2,15 @@ package com.sg25.spring_server.domain.auth.controller;
 
 import com.sg25.spring_server.domain.auth.dto.LoginRequestDTO;
 import com.sg25.spring_server.domain.auth.dto.LoginResponseDTO;
+import com.sg25.spring_server.domain.auth.dto.RefreshTokenRequestDTO;
 import com.sg25.spring_server.domain.auth.dto.RefreshTokenResponseDTO;
 import com.sg25.spring_server.domain.auth.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import com.sg25.spring_server.global.apiPayLoad.ApiResponse;
+import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
+import com.sg25.spring_server.global.exception.GeneralException;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -30,11 +32,10 @@ public class AuthRestController {
     @PostMapping("/login")
     public ApiResponse<LoginResponseDTO> login(
             @RequestBody LoginRequestDTO loginRequest,
-            HttpServletRequest request,
             HttpServletResponse response) {
 
-        // 내부적으로 DB에 동기화 + 세션 정보를 넘기도록 AuthService.login 메서드 설계됨
-        LoginResponseDTO loginResponse = authService.login(loginRequest, request);
+        // 식별 정보는 토큰(회원 ID claim)에만 담김, 서버 세션 없음
+        LoginResponseDTO loginResponse = authService.login(loginRequest);
 
         // Access Token을 HttpOnly 쿠키에 저장
         Cookie accessCookie = new Cookie("access_token", loginResponse.getAccessToken());
@@ -66,11 +67,10 @@ public class AuthRestController {
     @PostMapping("/register")
     public ApiResponse<LoginResponseDTO> register(
             @RequestBody LoginRequestDTO loginRequest,
-            HttpServletRequest request,
             HttpServletResponse response) {
 
-        // 내부적으로 DB에 동기화 + 세션 정보를 넘기도록 AuthService.register 메서드 설계됨
-        LoginResponseDTO loginResponse = authService.register(loginRequest, request);
+        // 식별 정보는 토큰(회원 ID claim)에만 담김, 서버 세션 없음
+        LoginResponseDTO loginResponse = authService.register(loginRequest);
 
         // Access Token을 HttpOnly 쿠키에 저장
         Cookie accessCookie = new Cookie("access_token", loginResponse.getAccessToken());
@@ -95,26 +95,37 @@ public class AuthRestController {
 
     /**
      * Refresh Token으로 Access Token 재발급
-     * 쿠키에서 refresh_token을 읽어 새로운 access_token을 발급 후, 쿠키로 전달
+     * 쿠키의 refresh_token(없으면 요청 바디의 refreshToken)으로 새로운 access_token과 회전된 refresh_token을 발급 후,
+     * 쿠키와 응답 바디로 전달 (웹 클라이언트는 바디 값을 localStorage에 보관)
      */
     @Operation(summary = "Access Token 재발급", description = "Refresh Token을 사용하여 새로운 Access Token을 발급합니다.")
     @PostMapping("/refresh")
     public ApiResponse<RefreshTokenResponseDTO> refresh(
-            @CookieValue("refresh_token") String refreshToken,
+            @CookieValue(value = "refresh_token", required = false) String cookieToken,
+            @RequestBody(required = false) RefreshTokenRequestDTO request,
             HttpServletResponse response) {
 
-        String newAccessToken = authService.refreshAccessToken(refreshToken);
+        String refreshToken = cookieToken != null ? cookieToken
+                : request != null ? request.getRefreshToken() : null;
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new GeneralException(ErrorStatus._REFRESH_TOKEN_INVALID);
+        }
 
-        Cookie accessCookie = new Cookie("access_token", newAccessToken);
+        RefreshTokenResponseDTO dto = authService.refreshTokens(refreshToken);
+
+        Cookie accessCookie = new Cookie("access_token", dto.getAccessToken());
         accessCookie.setHttpOnly(true);
         accessCookie.setPath("/");
-        accessCookie.setMaxAge((int) (authService.getAccessTokenExpiration() / 1000));
+        accessCookie.setMaxAge((int) (dto.getAccessTokenExpiresIn() / 1000));
         response.addCookie(accessCookie);
 
-        RefreshTokenResponseDTO dto = RefreshTokenResponseDTO.builder()
-                .accessToken(newAccessToken)
-                .accessTokenExpiresIn(authService.getAccessTokenExpiration())
-                .build();
+        // 이전 refresh 토큰은 used 처리되므로 새 토큰으로 교체
+        Cookie refreshCookie = new Cookie("refresh_token", dto.getRefreshToken());
+        refreshCookie.setHttpOnly(true);
+        refreshCookie.setPath("/");
+        refreshCookie.setMaxAge((int) (authService.getRefreshTokenExpiration() / 1000));
+        response.addCookie(refreshCookie);
+
         return ApiResponse.onSuccess(dto);
     }
 
@@ -125,8 +136,9 @@ public class AuthRestController {
     @Operation(summary = "로그아웃", description = "Access 및 Refresh Token을 만료 처리합니다.")
     @PostMapping("/logout")
     public ApiResponse<Void> logout(@CookieValue("access_token") String token,
+                                       @CookieValue(value = "refresh_token", required = false) String refreshToken,
                                        HttpServletResponse response) {
-        authService.logout(token);
+        authService.logout(token, refreshToken);
 
         // 쿠키 무효화 (0초 만료)
         Cookie accessCookie = new Cookie("access_token", null);
@@ -0,0 +1,51 @@
+package com.sg25.spring_server.domain.auth.domain.entity;
+
+import com.sg25.spring_server.domain.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급된 refresh 토큰 기록 (토큰 원문 대신 다이제스트만 저장)
+ * 로그인 한 번이 하나의 family이며, 재발급(rotation)마다 같은 family에 새 행이 추가되고 이전 행은 used가 된다.
+ * 이미 used인 토큰이 다시 제시되면 탈취로 보고 family 전체를 삭제한다.
+ * 단, usedAt으로부터 유예 시간 안의 재사용은 동시 재발급(여러 탭)으로 보고 새 토큰을 하나 더 발급한다.
+ * member 테이블과 분리되어 로그인/재발급이 회원 행을 수정하지 않는다.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_member", columnList = "member_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RefreshToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // TokenDigest (SHA-256, base64url)
+    @Column(nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean used = false;
+
+    // used 전환 시각 (재사용 유예 판단용)
+    private LocalDateTime usedAt;
+}
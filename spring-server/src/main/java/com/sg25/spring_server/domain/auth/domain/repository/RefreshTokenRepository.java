@@ -0,0 +1,43 @@
+package com.sg25.spring_server.domain.auth.domain.repository;
+
+import com.sg25.spring_server.domain.auth.domain.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // rotation: 아직 사용되지 않은 토큰만 used로 전환 (동시 재발급 중 하나만 1을 받음)
+    // 이후 잠금 조회가 영속성 컨텍스트의 이전 상태 대신 DB 값을 읽도록 clear
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken r set r.used = true, r.usedAt = :now where r.id = :id and r.used = false")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 잠금 조회는 스냅샷이 아닌 최신 커밋 값을 읽음 (동시 재발급한 쪽의 usedAt 확인)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RefreshToken r where r.id = :id")
+    Optional<RefreshToken> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 만료 행 배치 삭제 (배치마다 커밋해 긴 락을 피함)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :batchSize", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
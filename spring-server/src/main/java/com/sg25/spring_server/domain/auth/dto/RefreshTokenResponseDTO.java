@@ -6,5 +6,7 @@ import lombok.*;
 @Builder
 public class RefreshTokenResponseDTO {
     private String accessToken;
+    // 회전된 새 refresh 토큰 (이전 토큰은 더 이상 사용할 수 없음)
+    private String refreshToken;
     private Long accessTokenExpiresIn;
 }
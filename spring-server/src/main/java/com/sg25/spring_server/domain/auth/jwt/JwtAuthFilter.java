@@ -1,5 +1,6 @@
 package com.sg25.spring_server.domain.auth.jwt;
 
+import com.sg25.spring_server.domain.auth.principal.AuthenticatedMember;
 import com.sg25.spring_server.domain.auth.service.AuthService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,16 +10,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final JwtVerifier jwtVerifier;
     private final AuthService authService;
 
     @Override
@@ -29,30 +30,45 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         if (token != null && !authService.isTokenBlacklisted(token)) {
             try {
-                if (jwtProvider.validateToken(token)) {
-                    String email = jwtProvider.getEmailFromToken(token);
-                    UserDetails userDetails = authService.loadUserByUserEmail(email);
+                // 검증 + claims 추출 한 번 (같은 토큰은 exp까지 캐시된 결과 사용)
+                Optional<VerifiedToken> verified = jwtVerifier.verify(token);
+                if (verified.isPresent() && isRevokedMember(verified.get())) {
+                    logger.debug("삭제된 회원의 토큰");
+                } else if (verified.isPresent()) {
+                    AuthenticatedMember principal = toPrincipal(verified.get());
                     UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 } else {
-                    System.out.println("토큰 유효성 검사 실패");
+                    logger.debug("토큰 유효성 검사 실패");
                 }
             } catch (Exception e) {
                 logger.warn("JWT 인증 실패: " + e.getMessage());
             }
         } else {
-            System.out.println("토큰이 없거나 블랙리스트에 있음");
+            logger.debug("토큰이 없거나 블랙리스트에 있음");
         }
 
         filterChain.doFilter(request, response);
     }
 
+    // 회원 ID claim으로 식별하는 토큰은 회원 삭제 시각 이전 발급이면 거부 (DB/캐시 조회 없이 메모리에서 확인)
+    private boolean isRevokedMember(VerifiedToken token) {
+        return token.memberId() != null && authService.isRevokedForMember(token.memberId(), token.issuedAt());
+    }
+
+    // 회원 ID claim이 있으면 토큰만으로 식별, 이전 형식 토큰만 회원 조회(캐시)로 보완
+    private AuthenticatedMember toPrincipal(VerifiedToken token) {
+        if (token.memberId() != null) {
+            return new AuthenticatedMember(token.memberId(), token.email());
+        }
+        return authService.loadUserByUserEmail(token.email());
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
-            System.out.println("헤더에서 JWT 추출: " + bearer);
             return bearer.substring(7);
         }
 
@@ -60,13 +76,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 if ("access_token".equals(cookie.getName())) {
-                    System.out.println("쿠키에서 JWT 추출: " + cookie.getValue());
                     return cookie.getValue();
                 }
             }
         }
 
-        System.out.println("JWT를 찾을 수 없음");
         return null;
     }
 
@@ -1,6 +1,8 @@
 package com.sg25.spring_server.domain.auth.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,17 +15,29 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
 
+    // access 토큰에 담는 회원 ID claim (요청마다 회원 조회 없이 식별)
+    public static final String MEMBER_ID_CLAIM = "mid";
+
+    // 토큰 종류 claim: refresh 토큰을 Bearer access 토큰으로 쓰지 못하게 구분
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     // application.yml 에서 주입받은 Base64 인코딩된 키 문자열
     @Value("${jwt.secret}")
     private String secretKeyString;
 
     private SecretKey secretKey;
 
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (불변, 스레드 안전)
+    private JwtParser parser;
+
     // Access / Refresh 토큰 만료 시간(ms)
     @Getter
     @Value("${jwt.accessExpiration}")
@@ -38,41 +52,58 @@ public class JwtProvider {
         // base64로 인코딩된 키 문자열을 SecretKey 객체로 변환
         byte[] keyBytes = Base64.getDecoder().decode(secretKeyString);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
     }
 
-    // Access 토큰 생성
-    public String generateAccessToken(String email) {
+    // Access 토큰 생성 (subject = 이메일, 회원 ID는 claim으로)
+    public String generateAccessToken(String email, Long memberId) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .claim(MEMBER_ID_CLAIM, memberId)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
                 .signWith(secretKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // Refresh 토큰 생성
+    // Refresh 토큰 생성 (jti로 같은 시각 재발급에도 토큰이 겹치지 않게 함)
     public String generateRefreshToken(String email) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .signWith(secretKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * 서명/만료 검증 + claims 추출을 한 번의 파싱으로 수행 (실패 시 JwtException)
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    public static boolean isAccessToken(Claims claims) {
+        return ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    public static boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.sg25.spring_server.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 요청마다 access 토큰을 검증하는 컴포넌트
+ * 한 번 검증한 토큰은 토큰 다이제스트(SHA-256)를 키로 결과를 캐시하고, 각 항목은 토큰의 exp 시각에 만료된다.
+ * 같은 토큰이 만료 전까지 반복해서 들어오므로 HS512 서명 검증/JSON 파싱은 토큰당 한 번만 일어난다.
+ * 원문 토큰 대신 다이제스트를 키로 써서 힙 덤프 등에 토큰이 남지 않게 한다.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, VerifiedToken> verified;
+    private final Duration maxTtl;
+
+    public JwtVerifier(
+            JwtProvider jwtProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verifier.cache.max-size:100000}") long maxSize,
+            @Value("${jwt.accessExpiration}") long accessTokenExpiration) {
+        this.jwtProvider = jwtProvider;
+        this.maxTtl = Duration.ofMillis(accessTokenExpiration);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwtVerified");
+    }
+
+    /**
+     * 유효한 access 토큰이면 검증 결과, 서명 불일치/만료/형식 오류 또는 access 토큰이 아니면(refresh 등) empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = TokenDigest.of(token);
+        Instant now = Instant.now();
+
+        VerifiedToken cached = verified.getIfPresent(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = jwtProvider.parseClaims(token);
+            if (!JwtProvider.isAccessToken(claims)) {
+                return Optional.empty();
+            }
+            Instant expiresAt = claims.getExpiration() != null
+                    ? claims.getExpiration().toInstant()
+                    : now.plus(maxTtl);
+            Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH;
+            VerifiedToken result = new VerifiedToken(
+                    claims.getSubject(), claims.get(JwtProvider.MEMBER_ID_CLAIM, Long.class), issuedAt, expiresAt);
+            verified.put(key, result);
+            return Optional.of(result);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 로그아웃 등으로 더 이상 받아들이면 안 되는 토큰을 캐시에서 제거
+     */
+    public void evict(String token) {
+        verified.invalidate(TokenDigest.of(token));
+    }
+
+    // exp까지 남은 시간 (최대 access 토큰 수명)
+    private long untilExpiry(VerifiedToken value) {
+        Duration remaining = Duration.between(Instant.now(), value.expiresAt());
+        if (remaining.isNegative()) {
+            return 0;
+        }
+        return remaining.compareTo(maxTtl) > 0 ? maxTtl.toNanos() : remaining.toNanos();
+    }
+}
@@ -0,0 +1,15 @@
+package com.sg25.spring_server.domain.auth.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 access 토큰에서 인증에 필요한 값만 추린 것 (JwtVerifier 캐시 값)
+ * memberId는 회원 ID claim이 없는 이전 형식 토큰이면 null
+ * issuedAt은 회원 단위 폐기(삭제된 회원의 기존 토큰) 판단에 쓴다.
+ */
+public record VerifiedToken(String email, Long memberId, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
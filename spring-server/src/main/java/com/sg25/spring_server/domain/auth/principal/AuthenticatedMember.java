@@ -0,0 +1,61 @@
+package com.sg25.spring_server.domain.auth.principal;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 인증 후 SecurityContext에 올라가는 principal (회원 ID 포함)
+ * 컨트롤러는 @LoginMemberId 로, 메서드 보안은 principal.id 로 사용한다.
+ * 비밀번호는 토큰 인증에 필요 없으므로 담지 않는다.
+ */
+@Getter
+public class AuthenticatedMember implements UserDetails, Serializable {
+
+    private final Long id;
+    private final String email;
+
+    public AuthenticatedMember(Long id, String email) {
+        this.id = id;
+        this.email = email;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sg25.spring_server.domain.auth.principal;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 인증된 회원 ID(Long)를 주입
+ * 값은 검증된 토큰에서 만든 principal에서 꺼내며, 인증되지 않은 요청이면 _UNAUTHORIZED
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMemberId {
+}
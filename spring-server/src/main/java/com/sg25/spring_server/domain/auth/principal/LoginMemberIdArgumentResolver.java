@@ -0,0 +1,35 @@
+package com.sg25.spring_server.domain.auth.principal;
+
+import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
+import com.sg25.spring_server.global.exception.GeneralException;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @LoginMemberId Long 파라미터 해석
+ * JwtAuthFilter가 SecurityContext에 올린 AuthenticatedMember에서 ID를 꺼낸다. (세션/DB 조회 없음)
+ */
+public class LoginMemberIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMemberId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedMember member
+                && member.getId() != null) {
+            return member.getId();
+        }
+        throw new GeneralException(ErrorStatus._UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sg25.spring_server.domain.auth.principal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sg25.spring_server.domain.member.domain.repository.MemberRepository;
+import com.sg25.spring_server.domain.member.event.MemberChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 이메일 → 인증 principal 캐시
+ * 인증된 요청마다 회원을 조회하던 것을 짧은 TTL 동안 재사용한다.
+ * 회원 수정/삭제(커밋 이후)와 로그아웃 시 즉시 제거되며, 다른 인스턴스의 변경은 TTL 안에 반영된다.
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, AuthenticatedMember> principals;
+
+    public MemberPrincipalCache(
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${auth.principal-cache.ttl:60s}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "memberPrincipal");
+    }
+
+    /**
+     * 캐시에 없으면 (id, email)만 조회해서 채움 (동시 요청은 한 번만 조회)
+     */
+    public AuthenticatedMember get(String email) {
+        AuthenticatedMember principal = principals.get(email, key -> memberRepository.findPrincipalByEmail(key).orElse(null));
+        if (principal == null) {
+            throw new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email);
+        }
+        return principal;
+    }
+
+    public void evict(String email) {
+        principals.invalidate(email);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.email());
+        log.debug("🧹 principal 캐시 무효화: memberId = {}", event.memberId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.sg25.spring_server.domain.auth.revocation;
+
+import com.sg25.spring_server.domain.auth.jwt.TokenDigest;
+import com.sg25.spring_server.domain.member.event.MemberChangedEvent;
+import com.sg25.spring_server.global.config.RabbitMQConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 토큰 폐기를 모든 Spring 인스턴스에 전달
+ * 로그아웃 요청을 받은 인스턴스는 즉시 로컬에 반영하고 fanout exchange로 브로드캐스트하며,
+ * 각 인스턴스는 자기 전용 임시 큐에서 받아 로컬 저장소에 추가한다. (자기 메시지 중복 수신은 멱등)
+ */
+@Slf4j
+@Component
+public class TokenRevocationBroadcaster {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final TokenRevocationStore revocationStore;
+    private final long accessTokenExpiration;
+
+    public TokenRevocationBroadcaster(
+            RabbitTemplate rabbitTemplate,
+            TokenRevocationStore revocationStore,
+            @Value("${jwt.accessExpiration}") long accessTokenExpiration) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.revocationStore = revocationStore;
+        this.accessTokenExpiration = accessTokenExpiration;
+    }
+
+    public void revoke(String token, Instant expiresAt) {
+        TokenRevokedMessage message = TokenRevokedMessage.ofToken(TokenDigest.of(token), expiresAt.toEpochMilli());
+        revocationStore.add(message.digest(), expiresAt);
+        broadcast(message);
+    }
+
+    /**
+     * 회원 삭제가 커밋되면 그 시각까지 발급된 access 토큰을 모두 폐기
+     * (토큰의 회원 ID claim만으로 인증하므로, 폐기하지 않으면 토큰 exp까지 삭제된 회원으로 인증됨)
+     * 항목은 access 토큰 최대 수명 동안만 보관한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (!event.deleted()) {
+            return;
+        }
+        Instant notBefore = Instant.now();
+        Instant expiresAt = notBefore.plusMillis(accessTokenExpiration);
+        revocationStore.revokeMember(event.memberId(), notBefore, expiresAt);
+        broadcast(TokenRevokedMessage.ofMember(event.memberId(), notBefore.toEpochMilli(), expiresAt.toEpochMilli()));
+    }
+
+    @RabbitListener(queues = "#{tokenRevocationQueue.name}")
+    public void receive(TokenRevokedMessage message) {
+        Instant expiresAt = Instant.ofEpochMilli(message.expiresAt());
+        if (message.memberId() != null) {
+            revocationStore.revokeMember(message.memberId(), Instant.ofEpochMilli(message.notBefore()), expiresAt);
+            return;
+        }
+        revocationStore.add(message.digest(), expiresAt);
+    }
+
+    private void broadcast(TokenRevokedMessage message) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.TOKEN_REVOCATION_EXCHANGE, "", message);
+        } catch (AmqpException e) {
+            // 브로커 장애 시 이 인스턴스에서만 폐기됨 (다른 인스턴스는 토큰 exp까지 허용)
+            log.warn("⚠️ 토큰 폐기 브로드캐스트 실패, 로컬에만 반영", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sg25.spring_server.domain.auth.revocation;
+
+import com.sg25.spring_server.domain.auth.jwt.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기(로그아웃)된 토큰 저장소
+ * - 키는 토큰 다이제스트, 값은 토큰 exp → exp가 지나면 주기적으로 제거되어 메모리가 늘지 않는다.
+ * - 조회는 Bloom 필터(대부분 "확실히 없음"으로 끝남) → ConcurrentHashMap 순서로 락 없이 수행
+ * - 추가/재구성만 같은 모니터로 직렬화 (로그아웃 빈도는 조회에 비해 매우 낮음)
+ * - 회원 삭제는 회원 ID → notBefore(이 시각까지 발급된 토큰 거부)로 따로 보관하며,
+ *   access 토큰 최대 수명이 지나면(그 전 토큰이 모두 만료) 함께 제거된다.
+ * 다른 인스턴스로의 전파는 TokenRevocationBroadcaster가 담당한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // 회원 ID → [notBefore, 보관 만료] (epoch 밀리초)
+    private final Map<Long, long[]> revokedMembers = new ConcurrentHashMap<>();
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    public TokenRevocationStore(
+            MeterRegistry meterRegistry,
+            @Value("${auth.revocation.expected-entries:100000}") long expectedEntries,
+            @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        meterRegistry.gaugeMapSize("auth.revocation.entries", List.of(), revoked);
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        if (!filter.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(TokenDigest.encode(digest));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 회원 단위 폐기 여부: notBefore 이전(같은 초 포함)에 발급된 토큰이면 true
+     * (iat는 초 단위라 같은 초에 발급된 토큰도 폐기 대상으로 본다)
+     */
+    public boolean isRevokedForMember(Long memberId, Instant issuedAt) {
+        long[] entry = revokedMembers.get(memberId);
+        return entry != null && issuedAt.toEpochMilli() <= entry[0];
+    }
+
+    /**
+     * 회원의 notBefore 이전 발급 토큰을 모두 폐기 (expiresAt까지 보관)
+     */
+    public void revokeMember(Long memberId, Instant notBefore, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedMembers.merge(memberId, new long[]{notBefore.toEpochMilli(), expiresAt.toEpochMilli()},
+                (a, b) -> a[0] >= b[0] ? a : b);
+    }
+
+    /**
+     * 다이제스트를 폐기 목록에 추가 (이미 만료된 토큰은 무시)
+     */
+    public synchronized void add(String digest, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revoked.merge(digest, expiresAt.toEpochMilli(), Math::max);
+        filter.put(TokenDigest.decode(digest));
+    }
+
+    /**
+     * 만료된 항목 제거 후 남은 항목으로 Bloom 필터 재구성 (삭제된 비트로 인한 오탐 누적 방지)
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedMembers.values().removeIf(entry -> entry[1] <= now);
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int removed = before - revoked.size();
+        if (removed == 0) {
+            return;
+        }
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2L), falsePositiveRate);
+        revoked.keySet().forEach(digest -> rebuilt.put(TokenDigest.decode(digest)));
+        this.filter = rebuilt;
+        log.info("🧹 만료된 폐기 토큰 정리: {}건 제거, {}건 유지", removed, revoked.size());
+    }
+}
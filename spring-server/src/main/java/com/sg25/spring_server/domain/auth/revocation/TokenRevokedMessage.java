@@ -0,0 +1,17 @@
+package com.sg25.spring_server.domain.auth.revocation;
+
+/**
+ * 인스턴스 간 토큰 폐기 전파 메시지 (시각은 모두 epoch 밀리초)
+ * - 토큰 단위(로그아웃): digest = 토큰 다이제스트(원문 대신), expiresAt = 토큰 exp
+ * - 회원 단위(회원 삭제): memberId + notBefore(이 시각까지 발급된 토큰 폐기), expiresAt = 항목 보관 만료
+ */
+public record TokenRevokedMessage(String digest, Long memberId, Long notBefore, long expiresAt) {
+
+    public static TokenRevokedMessage ofToken(String digest, long expiresAt) {
+        return new TokenRevokedMessage(digest, null, null, expiresAt);
+    }
+
+    public static TokenRevokedMessage ofMember(Long memberId, long notBefore, long expiresAt) {
+        return new TokenRevokedMessage(null, memberId, notBefore, expiresAt);
+    }
+}
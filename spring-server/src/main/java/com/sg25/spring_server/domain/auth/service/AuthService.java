@@ -2,22 +2,25 @@ package com.sg25.spring_server.domain.auth.service;
 
 import com.sg25.spring_server.domain.auth.dto.LoginRequestDTO;
 import com.sg25.spring_server.domain.auth.dto.LoginResponseDTO;
+import com.sg25.spring_server.domain.auth.dto.RefreshTokenResponseDTO;
 import com.sg25.spring_server.domain.auth.jwt.JwtProvider;
+import com.sg25.spring_server.domain.auth.jwt.JwtVerifier;
+import com.sg25.spring_server.domain.auth.principal.AuthenticatedMember;
+import com.sg25.spring_server.domain.auth.principal.MemberPrincipalCache;
+import com.sg25.spring_server.domain.auth.revocation.TokenRevocationBroadcaster;
+import com.sg25.spring_server.domain.auth.revocation.TokenRevocationStore;
 import com.sg25.spring_server.domain.member.domain.entity.Member;
 import com.sg25.spring_server.domain.member.domain.repository.MemberRepository;
 import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
 import com.sg25.spring_server.global.exception.GeneralException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
@@ -26,34 +29,30 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
-
-    // 로그아웃된 토큰을 저장하는 블랙리스트 (메모리 기반)
-    private final Set<String> blacklistedTokens = Collections.synchronizedSet(new HashSet<>());
+    private final JwtVerifier jwtVerifier;
+    private final MemberPrincipalCache memberPrincipalCache;
+    // 로그아웃된 토큰 블랙리스트 (만료 시각까지만 보관, 클러스터 전파)
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TokenRevocationBroadcaster tokenRevocationBroadcaster;
+    private final RefreshTokenService refreshTokenService;
 
     // 로그인 처리 및 access/refresh 토큰 발급
-    public LoginResponseDTO login(LoginRequestDTO loginRequest, HttpServletRequest httpServletRequest) {
+    public LoginResponseDTO login(LoginRequestDTO loginRequest) {
 
         // 이메일 검증
         Member member = memberRepository.findByEmail(loginRequest.getEmail())
                 .orElseGet(() -> {
                     throw new GeneralException(ErrorStatus._EMAIL_INVALID);
                 });
+        // 삭제 진행 중인 회원은 없는 회원으로 처리
+        if (member.getDeletingAt() != null) {
+            throw new GeneralException(ErrorStatus._EMAIL_INVALID);
+        }
         // 비밀번호 검증
         if (passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
-            String accessToken = jwtProvider.generateAccessToken(loginRequest.getEmail());
-            String refreshToken = jwtProvider.generateRefreshToken(loginRequest.getEmail());
-
-            // 토큰 할당
-            member.setAccessToken(accessToken);
-            member.setRefreshToken(refreshToken);
-
-            // DB에 토큰을 포함한 사용자 정보 저장
-            memberRepository.save(member);
-
-            // 세션에 토큰을 제외한 사용자 정보 저장
-            HttpSession session = httpServletRequest.getSession(true);
-            session.setAttribute("memberId", member.getId());
-            session.setAttribute("email", member.getEmail());
+            String accessToken = jwtProvider.generateAccessToken(member.getEmail(), member.getId());
+            // refresh 토큰은 별도 저장소에 다이제스트만 기록 (member 행은 수정하지 않음)
+            String refreshToken = refreshTokenService.issue(member.getId(), member.getEmail());
 
             return LoginResponseDTO.builder()
                     .memberId(member.getId())
@@ -66,7 +65,7 @@ public class AuthService {
         throw new GeneralException(ErrorStatus._PASSWORD_INVALID);
     }
 
-    public LoginResponseDTO register(LoginRequestDTO loginRequest, HttpServletRequest httpServletRequest) {
+    public LoginResponseDTO register(LoginRequestDTO loginRequest) {
 
         // 이미 존재하는 이메일이면 예외 발생
         if (memberRepository.findByEmail(loginRequest.getEmail()).isPresent()) {
@@ -81,18 +80,8 @@ public class AuthService {
         memberRepository.save(newMember);
 
         // 토큰 발급
-        String accessToken = jwtProvider.generateAccessToken(newMember.getEmail());
-        String refreshToken = jwtProvider.generateRefreshToken(newMember.getEmail());
-
-        // 토큰 저장
-        newMember.setAccessToken(accessToken);
-        newMember.setRefreshToken(refreshToken);
-        memberRepository.save(newMember);
-
-        // 세션에 사용자 정보 저장
-        HttpSession session = httpServletRequest.getSession(true);
-        session.setAttribute("memberId", newMember.getId());
-        session.setAttribute("email", newMember.getEmail());
+        String accessToken = jwtProvider.generateAccessToken(newMember.getEmail(), newMember.getId());
+        String refreshToken = refreshTokenService.issue(newMember.getId(), newMember.getEmail());
 
         // 응답 DTO 반환
         return LoginResponseDTO.builder()
@@ -103,42 +92,52 @@ public class AuthService {
                 .build();
     }
 
-    // refresh token을 통한 access token 재발급
-    public String refreshAccessToken(String refreshToken) {
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new GeneralException(ErrorStatus._REFRESH_TOKEN_INVALID);
-        }
+    // refresh token 회전 + access token 재발급 (회원 조회/수정 없음)
+    public RefreshTokenResponseDTO refreshTokens(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken)
+                .orElseThrow(() -> new GeneralException(ErrorStatus._REFRESH_TOKEN_INVALID));
 
-        String email = jwtProvider.getEmailFromToken(refreshToken);
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
+        return RefreshTokenResponseDTO.builder()
+                .accessToken(jwtProvider.generateAccessToken(rotation.email(), rotation.memberId()))
+                .refreshToken(rotation.refreshToken())
+                .accessTokenExpiresIn(jwtProvider.getAccessTokenExpiration())
+                .build();
+    }
 
-        if (!refreshToken.equals(member.getRefreshToken())) {
-            throw new GeneralException(ErrorStatus._REFRESH_TOKEN_INVALID);
+    // 로그아웃 처리: access 토큰은 블랙리스트에 추가, refresh 토큰은 family 폐기
+    public void logout(String token, String refreshToken) {
+        // 1. 이 로그인에서 이어진 refresh 토큰 폐기 (access 토큰 상태와 무관하게 먼저 수행)
+        if (refreshToken != null) {
+            refreshTokenService.revokeFamily(refreshToken);
         }
 
-        String newAccessToken = jwtProvider.generateAccessToken(email);
-        member.setAccessToken(newAccessToken);
-        memberRepository.save(member);
-
-        return newAccessToken;
-    }
+        // 2. access 토큰 claims 추출 (이미 만료된 토큰도 서명은 검증된 claims 사용)
+        Claims claims;
+        try {
+            claims = jwtProvider.parseClaims(token);
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        }
 
-    // 로그아웃 처리: 토큰을 블랙리스트에 추가하고 DB에서도 삭제
-    public void logout(String token) {
-        blacklistedTokens.add(token);
+        // 3. 만료 시각까지만 블랙리스트에 등록하고 다른 인스턴스로 전파 (이미 만료된 토큰은 등록할 필요 없음)
+        Instant expiresAt = claims.getExpiration().toInstant();
+        if (expiresAt.isAfter(Instant.now())) {
+            tokenRevocationBroadcaster.revoke(token, expiresAt);
+        }
+        jwtVerifier.evict(token);
 
-        String email = jwtProvider.getEmailFromToken(token);
-        memberRepository.findByEmail(email).ifPresent(member -> {
-            member.setAccessToken(null);
-            member.setRefreshToken(null);
-            memberRepository.save(member);
-        });
+        // 4. principal 캐시 정리
+        memberPrincipalCache.evict(claims.getSubject());
     }
 
     // 해당 토큰이 블랙리스트에 등록되었는지 확인
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+        return tokenRevocationStore.isRevoked(token);
+    }
+
+    // 삭제된 회원의 기존 토큰인지 확인 (회원 ID claim으로 인증하는 경로)
+    public boolean isRevokedForMember(Long memberId, Instant issuedAt) {
+        return tokenRevocationStore.isRevokedForMember(memberId, issuedAt);
     }
 
     // access token의 만료 시간 반환
@@ -151,13 +150,8 @@ public class AuthService {
         return jwtProvider.getRefreshTokenExpiration();
     }
 
-    public UserDetails loadUserByUserEmail(String email) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
-
-        return org.springframework.security.core.userdetails.User
-                .withUsername(member.getEmail())
-                .password(member.getPassword())
-                .build();
+    // 인증 principal (회원 ID 포함), 짧은 TTL 캐시 사용
+    public AuthenticatedMember loadUserByUserEmail(String email) throws UsernameNotFoundException {
+        return memberPrincipalCache.get(email);
     }
 }
\ No newline at end of file
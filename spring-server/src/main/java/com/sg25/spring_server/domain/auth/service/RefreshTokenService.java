@@ -0,0 +1,149 @@
+package com.sg25.spring_server.domain.auth.service;
+
+import com.sg25.spring_server.domain.auth.domain.entity.RefreshToken;
+import com.sg25.spring_server.domain.auth.domain.repository.RefreshTokenRepository;
+import com.sg25.spring_server.domain.auth.jwt.JwtProvider;
+import com.sg25.spring_server.domain.auth.jwt.TokenDigest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * refresh 토큰 발급/회전/폐기
+ * - 발급된 토큰은 다이제스트와 family ID만 refresh_token 테이블에 기록 (member 행은 건드리지 않음)
+ * - 재발급 시 기존 토큰은 used 처리하고 같은 family로 새 토큰 발급
+ * - used 토큰 재사용 = 탈취로 간주하고 family 전체 폐기 (단, 유예 시간 안의 재사용은 동시 재발급으로 보고 새 토큰 발급)
+ * - 만료 행은 주기적으로 배치 삭제
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProvider jwtProvider;
+    private final int purgeBatchSize;
+    private final Duration reuseGrace;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtProvider jwtProvider,
+            @Value("${auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize,
+            @Value("${auth.refresh-token.reuse-grace:10s}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtProvider = jwtProvider;
+        this.purgeBatchSize = purgeBatchSize;
+        this.reuseGrace = reuseGrace;
+    }
+
+    /**
+     * 재발급 결과 (새 refresh 토큰 + access 토큰 발급에 필요한 회원 정보)
+     */
+    public record Rotation(Long memberId, String email, String refreshToken) {
+    }
+
+    // 로그인/회원가입: 새 family 시작
+    @Transactional
+    public String issue(Long memberId, String email) {
+        return issueInFamily(UUID.randomUUID().toString(), memberId, email);
+    }
+
+    /**
+     * 토큰 회전
+     * 서명/만료가 유효한 refresh 종류 토큰이고 기록된 미사용 토큰이면 새 토큰 발급, 아니면 empty
+     * 유예 시간이 지난 used 토큰이면 family 전체를 폐기한 뒤 empty (예외로 롤백되지 않도록 반환값으로 전달)
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String refreshToken) {
+        // 1. 서명/만료/토큰 종류 검증
+        Claims claims;
+        try {
+            claims = jwtProvider.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!JwtProvider.isRefreshToken(claims)) {
+            return Optional.empty();
+        }
+
+        // 2. 발급 기록 확인 (폐기된 family는 행이 없음)
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(TokenDigest.of(refreshToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshToken current = found.get();
+
+        // 3. 조건부 used 전환: 실패하면 이미 사용된 토큰의 재사용
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0
+                && !isConcurrentReuse(current.getId(), now)) {
+            int revoked = refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            log.warn("🚨 사용된 refresh 토큰 재사용 감지: memberId={}, family 토큰 {}건 폐기",
+                    current.getMemberId(), revoked);
+            return Optional.empty();
+        }
+
+        // 4. 같은 family로 새 토큰 발급
+        String email = claims.getSubject();
+        String rotated = issueInFamily(current.getFamilyId(), current.getMemberId(), email);
+        return Optional.of(new Rotation(current.getMemberId(), email, rotated));
+    }
+
+    /**
+     * 방금(유예 시간 안) 사용된 토큰이면 동시 재발급으로 본다 (여러 탭이 만료 직후 함께 재발급)
+     * 이 경우 family를 유지하고 같은 family로 새 토큰을 하나 더 발급한다.
+     */
+    private boolean isConcurrentReuse(Long tokenId, LocalDateTime now) {
+        return refreshTokenRepository.findByIdForUpdate(tokenId)
+                .map(RefreshToken::getUsedAt)
+                .filter(usedAt -> usedAt.isAfter(now.minus(reuseGrace)))
+                .isPresent();
+    }
+
+    // 로그아웃: 해당 토큰이 속한 family 폐기 (다른 기기의 로그인은 유지)
+    @Transactional
+    public void revokeFamily(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigest.of(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    // 회원 삭제: 모든 family 폐기
+    @Transactional
+    public void revokeAll(Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.purge-cron:0 15 4 * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (total > 0) {
+            log.info("🧹 만료된 refresh 토큰 정리: {}건 삭제", total);
+        }
+    }
+
+    private String issueInFamily(String familyId, Long memberId, String email) {
+        String token = jwtProvider.generateRefreshToken(email);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigest.of(token))
+                .familyId(familyId)
+                .memberId(memberId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtProvider.getRefreshTokenExpiration())))
+                .build());
+        return token;
+    }
+}
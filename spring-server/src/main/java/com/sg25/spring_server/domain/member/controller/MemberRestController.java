@@ -1,16 +1,13 @@
 package com.sg25.spring_server.domain.member.controller;
 
+import com.sg25.spring_server.domain.auth.principal.LoginMemberId;
 import com.sg25.spring_server.domain.member.dto.MemberRequestDTO;
 import com.sg25.spring_server.domain.member.dto.MemberResponseDTO;
 import com.sg25.spring_server.domain.member.service.MemberService;
 import com.sg25.spring_server.global.apiPayLoad.ApiResponse;
-import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
-import com.sg25.spring_server.global.exception.GeneralException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -33,16 +30,9 @@ public class MemberRestController {
         return ApiResponse.onSuccess(response);
     }
 
-    @Operation(summary = "내 정보 조회", description = "세션에 저장된 사용자 정보를 바탕으로 회원 정보를 조회합니다.")
+    @Operation(summary = "내 정보 조회", description = "인증된 사용자 정보를 바탕으로 회원 정보를 조회합니다.")
     @GetMapping("/my-info")
-    public ApiResponse<MemberResponseDTO.MemberViewResponse> getMyInfo(HttpServletRequest request) {
-        // 내 정보 조회 시: 세션이 없으면 null 반환 → 로그인 안 한 상태
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("memberId") == null) {
-            throw new GeneralException(ErrorStatus._NO_LOGIN);
-        }
-
-        Long memberId = (Long) session.getAttribute("memberId");
+    public ApiResponse<MemberResponseDTO.MemberViewResponse> getMyInfo(@LoginMemberId Long memberId) {
         MemberResponseDTO.MemberViewResponse response = memberService.find(memberId);
 
         return ApiResponse.onSuccess(response);
@@ -7,6 +7,7 @@ import lombok.*;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,17 +31,12 @@ public class Member extends BaseEntity {
     @Column(nullable = false)
     private String password;
 
-    // access token 저장
-    @Column(length = 500)
-    private String accessToken;
-
-    // refresh token 저장
-    @Column(length = 500)
-    private String refreshToken;
-
     @Column(nullable = true, length = 20)
     private String name;
 
+    // 대량 보관함 삭제가 진행 중이면 요청 시각 (로그인/인증 차단, 삭제가 끝나면 행과 함께 사라짐)
+    private LocalDateTime deletingAt;
+
     @Builder.Default
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Note> noteList = new ArrayList<>();
@@ -0,0 +1,40 @@
+package com.sg25.spring_server.domain.member.domain.entity;
+
+import com.sg25.spring_server.domain.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 보관함 회원 삭제 작업
+ * 회원을 삭제 중 상태로 표시하는 트랜잭션에서 함께 저장되고, MemberPurgeService 스케줄러가 chunk 단위로 이어서 처리한다.
+ * 회원 행까지 삭제되면 마지막 chunk와 같은 트랜잭션에서 함께 삭제된다.
+ * 여러 인스턴스가 같은 작업을 동시에 처리하지 않도록 nextAttemptAt(임대 만료)을 조건부 UPDATE로 선점한다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_member_purge_job_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberPurgeJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private Long memberId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(length = 500)
+    private String lastError;
+}
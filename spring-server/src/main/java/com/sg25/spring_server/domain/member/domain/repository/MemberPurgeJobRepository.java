@@ -0,0 +1,45 @@
+package com.sg25.spring_server.domain.member.domain.repository;
+
+import com.sg25.spring_server.domain.member.domain.entity.MemberPurgeJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MemberPurgeJobRepository extends JpaRepository<MemberPurgeJob, Long> {
+
+    boolean existsByMemberId(Long memberId);
+
+    @Query("select j from MemberPurgeJob j where j.nextAttemptAt <= :now order by j.id")
+    List<MemberPurgeJob> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 작업 선점/임대 연장: 임대가 끝난(또는 재시도 시각이 된) 작업만 선점되고, 다른 인스턴스는 임대가 끝나기 전까지 가져가지 못한다.
+    @Transactional
+    @Modifying
+    @Query("update MemberPurgeJob j set j.nextAttemptAt = :leaseUntil where j.id = :id and j.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update MemberPurgeJob j set j.nextAttemptAt = :leaseUntil where j.id = :id")
+    int extendLease(@Param("id") Long id, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MemberPurgeJob j
+            set j.attempts = j.attempts + 1, j.nextAttemptAt = :nextAttemptAt, j.lastError = :lastError
+            where j.id = :id
+            """)
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("delete from MemberPurgeJob j where j.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,10 +1,32 @@
 package com.sg25.spring_server.domain.member.domain.repository;
 
+import com.sg25.spring_server.domain.auth.principal.AuthenticatedMember;
 import com.sg25.spring_server.domain.member.domain.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
+
+    // 인증 principal 용 (엔티티/비밀번호를 로딩하지 않음)
+    @Query("select new com.sg25.spring_server.domain.auth.principal.AuthenticatedMember(m.id, m.email) from Member m where m.email = :email and m.deletingAt is null")
+    Optional<AuthenticatedMember> findPrincipalByEmail(@Param("email") String email);
+
+    @Query("select m.email from Member m where m.id = :memberId")
+    Optional<String> findEmailById(@Param("memberId") Long memberId);
+
+    // 대량 보관함 삭제 시작: 삭제가 끝날 때까지 로그인/인증 차단
+    @Modifying
+    @Query("update Member m set m.deletingAt = :now where m.id = :memberId")
+    int markDeleting(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+    // 노트 삭제 후 회원 행만 삭제 (cascade로 연관 엔티티를 로딩하지 않음)
+    @Modifying
+    @Query("delete from Member m where m.id = :memberId")
+    int deleteByIdInBulk(@Param("memberId") Long memberId);
 }
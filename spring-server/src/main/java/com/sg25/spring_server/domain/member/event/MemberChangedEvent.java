@@ -0,0 +1,16 @@
+package com.sg25.spring_server.domain.member.event;
+
+/**
+ * 회원 정보 수정/삭제 이벤트
+ * 커밋 이후 인증 principal 캐시 무효화에 사용하고, 삭제면 이미 발급된 access 토큰도 폐기한다.
+ */
+public record MemberChangedEvent(Long memberId, String email, boolean deleted) {
+
+    public static MemberChangedEvent updated(Long memberId, String email) {
+        return new MemberChangedEvent(memberId, email, false);
+    }
+
+    public static MemberChangedEvent deleted(Long memberId, String email) {
+        return new MemberChangedEvent(memberId, email, true);
+    }
+}
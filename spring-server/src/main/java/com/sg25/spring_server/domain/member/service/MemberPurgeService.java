@@ -0,0 +1,173 @@
+package com.sg25.spring_server.domain.member.service;
+
+import com.sg25.spring_server.domain.auth.revocation.TokenRevocationStore;
+import com.sg25.spring_server.domain.member.domain.entity.MemberPurgeJob;
+import com.sg25.spring_server.domain.member.domain.repository.MemberPurgeJobRepository;
+import com.sg25.spring_server.domain.member.domain.repository.MemberRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteRepository;
+import com.sg25.spring_server.domain.note.service.NoteService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 회원 데이터 일괄 삭제
+ * 노트를 chunk-size개씩 끊어 각각 짧은 트랜잭션으로 지우고(파일 묘비, 검색 색인, 캐시 무효화 포함),
+ * 마지막에 회원 행을 삭제한다.
+ * 대량 보관함은 회원을 삭제 중 상태로 표시하고 삭제 작업(MemberPurgeJob)을 저장해 두면,
+ * 스케줄러가 남은 노트부터 이어서 지운다 (실패/재시작 시에도 작업이 남아 있어 다시 시도됨).
+ */
+@Slf4j
+@Component
+public class MemberPurgeService {
+
+    private final MemberRepository memberRepository;
+    private final NoteRepository noteRepository;
+    private final NoteService noteService;
+    private final MemberPurgeJobRepository purgeJobRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    // 작업 선점 임대 시간 (chunk마다 연장되므로 chunk 하나의 처리 시간보다 길면 됨)
+    @Value("${member.purge.claim-lease:5m}")
+    private Duration claimLease;
+
+    @Value("${member.purge.base-backoff:30s}")
+    private Duration baseBackoff;
+
+    @Value("${member.purge.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${member.purge.batch-size:10}")
+    private int batchSize;
+
+    @Value("${jwt.accessExpiration}")
+    private long accessTokenExpiration;
+
+    public MemberPurgeService(
+            MemberRepository memberRepository,
+            NoteRepository noteRepository,
+            NoteService noteService,
+            MemberPurgeJobRepository purgeJobRepository,
+            TokenRevocationStore tokenRevocationStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.purge.chunk-size:500}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.noteRepository = noteRepository;
+        this.noteService = noteService;
+        this.purgeJobRepository = purgeJobRepository;
+        this.tokenRevocationStore = tokenRevocationStore;
+        // chunk마다 새 트랜잭션 (스케줄러 스레드에서 실행)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    // 노트가 한 chunk 미만이면 요청 트랜잭션 안에서 바로 삭제 (purgeChunk가 한 번에 회원까지 지우는 조건과 동일)
+    public boolean fitsInOneChunk(Long memberId) {
+        return noteRepository.countByMemberId(memberId) < chunkSize;
+    }
+
+    // 이미 삭제 작업이 등록된 회원인지
+    public boolean isPurging(Long memberId) {
+        return purgeJobRepository.existsByMemberId(memberId);
+    }
+
+    /**
+     * 현재 트랜잭션에서 회원을 삭제 중으로 표시하고 삭제 작업 등록
+     * 커밋되면 로그인/인증이 막히고, 실제 삭제는 스케줄러가 진행한다.
+     */
+    public void enqueue(Long memberId) {
+        memberRepository.markDeleting(memberId, LocalDateTime.now());
+        purgeJobRepository.save(MemberPurgeJob.builder().memberId(memberId).build());
+        log.info("🗑️ 회원 삭제 작업 등록: memberId = {}", memberId);
+    }
+
+    /**
+     * 현재 트랜잭션에서 한 chunk 삭제, 남은 노트가 없으면 회원(과 삭제 작업)까지 삭제
+     * @return 회원까지 삭제되었으면 true
+     */
+    public boolean purgeChunk(Long memberId) {
+        List<Long> noteIds = noteRepository.findIdsByMemberId(memberId, PageRequest.of(0, chunkSize));
+        noteService.deleteNotes(memberId, noteIds);
+
+        if (noteIds.size() < chunkSize) {
+            memberRepository.deleteByIdInBulk(memberId);
+            purgeJobRepository.deleteByMemberId(memberId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 시각이 된(또는 임대가 끝난) 삭제 작업을 선점해 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${member.purge.poll-interval:10000}")
+    public void resumePending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberPurgeJob> jobs = purgeJobRepository.findDue(now, PageRequest.of(0, batchSize));
+
+        for (MemberPurgeJob job : jobs) {
+            // 1. 다른 인스턴스가 먼저 가져간 작업은 건너뜀
+            if (purgeJobRepository.claim(job.getId(), now, LocalDateTime.now().plus(claimLease)) == 0) {
+                continue;
+            }
+            // 2. 회원 행까지 지울 때까지 chunk 반복
+            run(job);
+        }
+    }
+
+    private void run(MemberPurgeJob job) {
+        Long memberId = job.getMemberId();
+        log.info("🗑️ 회원 삭제 작업 시작: memberId = {}, 시도 {}회차", memberId, job.getAttempts() + 1);
+        int chunks = 0;
+        try {
+            boolean finished;
+            do {
+                finished = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    purgeJobRepository.extendLease(job.getId(), LocalDateTime.now().plus(claimLease));
+                    return purgeChunk(memberId);
+                }));
+                chunks++;
+            } while (!finished);
+            log.info("✅ 회원 삭제 작업 완료: memberId = {}, {}회 처리", memberId, chunks);
+        } catch (Exception e) {
+            // 이미 커밋된 chunk는 유지되고, 백오프 후 남은 노트부터 이어서 삭제된다
+            long multiplier = 1L << Math.min(job.getAttempts(), 10);
+            Duration backoff = baseBackoff.multipliedBy(multiplier);
+            if (backoff.compareTo(maxBackoff) > 0) {
+                backoff = maxBackoff;
+            }
+            String error = String.valueOf(e.getMessage());
+            purgeJobRepository.markAttemptFailed(job.getId(), LocalDateTime.now().plus(backoff),
+                    error.length() > 500 ? error.substring(0, 500) : error);
+            log.error("❌ 회원 삭제 작업 중단: memberId = {}, {}회 처리 후 실패, {} 후 재시도", memberId, chunks, backoff, e);
+        }
+    }
+
+    /**
+     * 재시작 시 메모리의 회원 단위 토큰 폐기가 사라지므로, 삭제 중인 회원은 작업 등록 시각 기준으로 다시 폐기
+     * (access 토큰 최대 수명이 지난 작업은 TokenRevocationStore가 무시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreTokenRevocations() {
+        for (MemberPurgeJob job : purgeJobRepository.findAll()) {
+            Instant requestedAt = job.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+            tokenRevocationStore.revokeMember(job.getMemberId(), requestedAt, requestedAt.plusMillis(accessTokenExpiration));
+        }
+    }
+}
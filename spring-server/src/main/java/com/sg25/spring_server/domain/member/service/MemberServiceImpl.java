@@ -1,13 +1,16 @@
 package com.sg25.spring_server.domain.member.service;
 
+import com.sg25.spring_server.domain.auth.service.RefreshTokenService;
 import com.sg25.spring_server.domain.member.converter.MemberConverter;
 import com.sg25.spring_server.domain.member.domain.entity.Member;
 import com.sg25.spring_server.domain.member.domain.repository.MemberRepository;
 import com.sg25.spring_server.domain.member.dto.MemberRequestDTO;
 import com.sg25.spring_server.domain.member.dto.MemberResponseDTO;
+import com.sg25.spring_server.domain.member.event.MemberChangedEvent;
 import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
 import com.sg25.spring_server.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,9 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final MemberConverter memberConverter;
+    private final MemberPurgeService memberPurgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
 
     // 회원 조회
     @Override
@@ -40,14 +46,30 @@ public class MemberServiceImpl implements MemberService {
         if (req.getPassword() != null && !req.getPassword().isBlank()) {
             m.setPassword(passwordEncoder.encode(req.getPassword()));
         }
+        eventPublisher.publishEvent(MemberChangedEvent.updated(m.getId(), m.getEmail()));
 
         return memberConverter.toMemberViewResponse(m);
     }
 
     // 회원 삭제
+    // 노트가 많으면 긴 트랜잭션을 피하기 위해 삭제 중으로 표시하고 삭제 작업을 등록 (스케줄러가 chunk 단위로 처리)
     @Override
     @Transactional
     public void delete(Long id) {
-        memberRepository.deleteById(id);
+        String email = memberRepository.findEmailById(id)
+                .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
+        // 이미 삭제 작업이 진행 중이면 그대로 둠
+        if (memberPurgeService.isPurging(id)) {
+            return;
+        }
+        eventPublisher.publishEvent(MemberChangedEvent.deleted(id, email));
+        // 발급된 refresh 토큰 전부 폐기 (같은 트랜잭션)
+        refreshTokenService.revokeAll(id);
+
+        if (memberPurgeService.fitsInOneChunk(id)) {
+            memberPurgeService.purgeChunk(id);
+            return;
+        }
+        memberPurgeService.enqueue(id);
     }
 }
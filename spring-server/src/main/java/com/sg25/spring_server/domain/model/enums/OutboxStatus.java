@@ -0,0 +1,5 @@
+package com.sg25.spring_server.domain.model.enums;
+
+public enum OutboxStatus {
+    PENDING, SENT, FAILED;
+}
@@ -0,0 +1,141 @@
+package com.sg25.spring_server.domain.note.controller;
+
+import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
+import com.sg25.spring_server.global.exception.GeneralException;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import com.sg25.spring_server.global.infra.storage.derivative.ImageDerivative;
+import com.sg25.spring_server.global.infra.storage.derivative.ImageDerivativeGenerator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Tag(name = "노트 이미지 API", description = "노트 이미지 원본 조회 API")
+@RestController
+public class NoteImageContentController {
+
+    // 내용 해시 키: "ab/cd/<sha256>.ext" (파생본은 ImageDerivative 키) → 같은 URL의 내용은 절대 바뀌지 않음
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(\\.[a-z0-9]{1,5})?");
+
+    // 로그인 사용자 이미지이므로 공유 캐시(CDN/프록시)에는 저장하지 않음
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+    private static final CacheControl LEGACY = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final BlobStore blobStore;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final long sendfileThreshold;
+
+    public NoteImageContentController(
+            BlobStore blobStore,
+            ImageDerivativeGenerator imageDerivativeGenerator,
+            @Value("${note.image.sendfile-threshold:48KB}") DataSize sendfileThreshold) {
+        this.blobStore = blobStore;
+        this.imageDerivativeGenerator = imageDerivativeGenerator;
+        this.sendfileThreshold = sendfileThreshold.toBytes();
+    }
+
+    @Operation(summary = "노트 이미지 조회",
+            description = "저장소 키로 이미지 원본을 내려줍니다. 내용 해시 URL이라 immutable 캐시 + 강한 ETag, Range 요청을 지원합니다.")
+    @GetMapping("/noteImages/{*key}")
+    public ResponseEntity<Resource> getImage(@PathVariable String key, WebRequest webRequest, HttpServletRequest request) {
+        // {*key}는 앞에 '/'가 붙어서 들어온다
+        String blobKey = key.startsWith("/") ? key.substring(1) : key;
+        Optional<String> derivedHash = ImageDerivative.sourceHashOf(blobKey);
+
+        // 1. 내용 해시 = 강한 ETag → 저장소를 조회하기 전에 304 응답
+        String etag = immutableEtag(blobKey, derivedHash);
+        boolean immutable = etag != null;
+        if (immutable && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        // 2. 원본 조회
+        Resource image;
+        try {
+            image = blobStore.getResource(blobKey);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        }
+        if (!image.exists()) {
+            // 기능 도입 이전 이미지의 파생본: 생성을 예약하고 이번에는 원본으로 대체 (대체 응답은 캐시하지 않음)
+            return derivedHash.flatMap(imageDerivativeGenerator::requestLazily)
+                    .map(sourceKey -> ResponseEntity.status(HttpStatus.FOUND)
+                            .location(URI.create("/noteImages/" + sourceKey))
+                            .cacheControl(CacheControl.noStore())
+                            .<Resource>build())
+                    .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(blobKey).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .cacheControl(immutable ? IMMUTABLE : LEGACY)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag != null) {
+            response.eTag(etag);
+        }
+
+        // 3. 큰 로컬 파일 전체 전송은 Tomcat sendfile로 커널에서 바로 소켓에 복사 (본문은 쓰지 않음)
+        //    Range 요청은 Spring이 ResourceRegion(206)으로 처리
+        File file = sendfileCandidate(image, request);
+        if (file != null) {
+            request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.length());
+            return response.contentLength(file.length()).build();
+        }
+
+        return response.body(image);
+    }
+
+    // 원본: "ab/cd/<sha256>.ext" → sha256, 파생본: "derived/thumb/.../<sha256>.jpg" → "thumb-<sha256>"
+    private static String immutableEtag(String blobKey, Optional<String> derivedHash) {
+        if (derivedHash.isPresent()) {
+            return blobKey.substring(ImageDerivative.PREFIX.length(), blobKey.indexOf('/', ImageDerivative.PREFIX.length()))
+                    + "-" + derivedHash.get();
+        }
+        Matcher contentKey = CONTENT_KEY.matcher(blobKey);
+        return contentKey.matches() ? contentKey.group(1) : null;
+    }
+
+    private File sendfileCandidate(Resource image, HttpServletRequest request) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))
+                || !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.RANGE) != null
+                || !image.isFile()) {
+            return null;
+        }
+        try {
+            File file = image.getFile();
+            return file.length() >= sendfileThreshold ? file : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
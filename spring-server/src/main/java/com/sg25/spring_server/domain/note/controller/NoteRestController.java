@@ -1,21 +1,20 @@
 package com.sg25.spring_server.domain.note.controller;
 
+import com.sg25.spring_server.domain.auth.principal.LoginMemberId;
 import com.sg25.spring_server.domain.note.dto.NoteRequestDTO;
 import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
 import com.sg25.spring_server.domain.note.service.NoteService;
 import com.sg25.spring_server.global.apiPayLoad.ApiResponse;
-import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
-import com.sg25.spring_server.global.exception.GeneralException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -46,14 +45,8 @@ public class NoteRestController {
             @Parameter(description = "노트 제목") @RequestPart("title") String title,
             @Parameter(description = "노트 설명") @RequestPart("content") String content,
             @Parameter(description = "노트 이미지 파일들") @RequestPart("images") List<MultipartFile> images,
-            HttpServletRequest request
+            @LoginMemberId Long memberId
     ) {
-        Long memberId = (Long) request.getSession().getAttribute("memberId");
-
-        if (memberId == null) {
-            throw new GeneralException(ErrorStatus._UNAUTHORIZED);
-        }
-
         NoteRequestDTO.CreateNoteRequest requestDTO = NoteRequestDTO.CreateNoteRequest.builder()
                 .title(title)
                 .content(content)
@@ -65,22 +58,22 @@ public class NoteRestController {
 
     @Operation(
             summary = "노트 목록 조회",
-            description = "현재 로그인한 사용자의 노트 목록을 조회합니다.",
+            description = "현재 로그인한 사용자의 노트 목록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.",
             responses = {
                     @io.swagger.v3.oas.annotations.responses.ApiResponse(
                             responseCode = "200",
                             description = "노트 목록 반환",
-                            content = @Content(schema = @Schema(implementation = NoteResponseDTO.NoteSimpleViewResponse.class))
+                            content = @Content(schema = @Schema(implementation = NoteResponseDTO.NoteSliceResponse.class))
                     )
             }
     )
     @GetMapping("/my-notes")
-    public ApiResponse<List<NoteResponseDTO.NoteSimpleViewResponse>> getNoteList(HttpServletRequest request) {
-        Long memberId = (Long) request.getSession().getAttribute("memberId");
-        if (memberId == null) {
-            throw new GeneralException(ErrorStatus._UNAUTHORIZED);
-        }
-        return ApiResponse.onSuccess(noteService.getNoteList(memberId));
+    public ApiResponse<NoteResponseDTO.NoteSliceResponse> getNoteList(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @LoginMemberId Long memberId
+    ) {
+        return ApiResponse.onSuccess(noteService.getNoteList(memberId, cursor, size));
     }
 
     @Operation(
@@ -101,6 +94,22 @@ public class NoteRestController {
         return ApiResponse.onSuccess(noteService.getNoteDetail(noteId));
     }
 
+    @Operation(
+            summary = "노트 이미지 상태 구독",
+            description = "노트 이미지의 인식 상태를 Server-Sent Events로 구독합니다. "
+                    + "연결 직후 snapshot 이벤트로 현재 상태를, 이후 분석 결과가 반영될 때마다 status 이벤트로 변경된 이미지를 보냅니다.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "이벤트 스트림")
+            }
+    )
+    @GetMapping(value = "/{noteId}/status-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeNoteStatus(
+            @Parameter(description = "구독할 노트 ID") @PathVariable Long noteId,
+            @LoginMemberId Long memberId
+    ) {
+        return noteService.subscribeStatus(noteId, memberId);
+    }
+
     @Operation(
             summary = "노트 삭제",
             description = "노트 ID에 해당하는 노트를 삭제합니다.",
@@ -111,14 +120,8 @@ public class NoteRestController {
     @DeleteMapping("/{noteId}")
     public ApiResponse<Void> deleteNote(
             @Parameter(description = "삭제할 노트 ID") @PathVariable Long noteId,
-            HttpServletRequest request
+            @LoginMemberId Long memberId
     ) {
-        Long memberId = (Long) request.getSession().getAttribute("memberId");
-
-        if (memberId == null) {
-            throw new GeneralException(ErrorStatus._UNAUTHORIZED);
-        }
-
         noteService.deleteNote(noteId, memberId);
         return ApiResponse.onSuccess(null);
     }
@@ -3,7 +3,11 @@ package com.sg25.spring_server.domain.note.converter;
 import com.sg25.spring_server.domain.member.domain.entity.Member;
 import com.sg25.spring_server.domain.note.domain.entity.Note;
 import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteDetailRow;
+import com.sg25.spring_server.domain.note.domain.repository.NoteSummary;
+import com.sg25.spring_server.domain.note.dto.NoteCursor;
 import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import com.sg25.spring_server.global.infra.storage.derivative.ImageDerivative;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -41,6 +45,33 @@ public class NoteConverter {
                 .build();
     }
 
+    /**
+     * 상세 조회 프로젝션 행 목록 → NoteViewResponse DTO 변환
+     * 첫 행에서 노트 정보를, 이미지가 있는 행마다 이미지 DTO를 만든다
+     */
+    public NoteResponseDTO.NoteViewResponse toNoteResponseDTO(List<NoteDetailRow> rows) {
+        NoteDetailRow head = rows.get(0);
+
+        List<NoteResponseDTO.NoteImageResponse> imageDTOList = rows.stream()
+                .filter(row -> row.imageId() != null)
+                .map(row -> NoteResponseDTO.NoteImageResponse.builder()
+                        .imageId(row.imageId())
+                        .imageUrl(extractPublicUrlFromStoredPath(row.storedPath()))
+                        .thumbnailUrl(ImageDerivative.THUMBNAIL.url(row.contentHash()))
+                        .previewUrl(ImageDerivative.PREVIEW.url(row.contentHash()))
+                        .analysisResult(row.recognizedText())
+                        .noteImageStatus(row.noteImageStatus())
+                        .build())
+                .collect(Collectors.toList());
+
+        return NoteResponseDTO.NoteViewResponse.builder()
+                .noteId(head.noteId())
+                .title(head.title())
+                .content(head.content())
+                .images(imageDTOList)
+                .build();
+    }
+
     /**
      * NoteImage → NoteImageDTO 변환
      */
@@ -50,37 +81,49 @@ public class NoteConverter {
         return NoteResponseDTO.NoteImageResponse.builder()
                 .imageId(image.getId())
                 .imageUrl(imageUrl)
+                .thumbnailUrl(ImageDerivative.THUMBNAIL.url(image.getContentHash()))
+                .previewUrl(ImageDerivative.PREVIEW.url(image.getContentHash()))
                 .analysisResult(image.getRecognizedText())
                 .noteImageStatus(image.getNoteImageStatus())
                 .build();
     }
 
     /**
-     * Note → 목록 조회용 SimpleNoteResponse DTO 변환
+     * NoteSummary 프로젝션 → 목록 조회용 SimpleNoteResponse DTO 변환
      */
-    public NoteResponseDTO.NoteSimpleViewResponse toSimpleNoteDTO(Note note) {
+    public NoteResponseDTO.NoteSimpleViewResponse toSimpleNoteDTO(NoteSummary summary) {
         return NoteResponseDTO.NoteSimpleViewResponse.builder()
-                .noteId(note.getId())
-                .title(note.getTitle())
-                .createdAt(note.getCreatedAt())
+                .noteId(summary.getNoteId())
+                .title(summary.getTitle())
+                .createdAt(summary.getCreatedAt())
                 .build();
     }
 
     /**
-     * storedPath에서 정적 URL 경로 추출
-     * 예: "src/main/resources/static/noteImages/a.png" → "/noteImages/a.png"
+     * 프로젝션 목록(size + 1개 조회) → 커서 페이지 응답 변환
      */
-    private String extractPublicUrlFromStoredPath(String storedPath) {
-        // 경로의 OS 종속성 해결: 윈도우에서는 \가 들어올 수 있으므로 슬래시로 통일
-        storedPath = storedPath.replace("\\", "/");
+    public NoteResponseDTO.NoteSliceResponse toNoteSliceDTO(List<NoteSummary> summaries, int size) {
+        boolean hasNext = summaries.size() > size;
+        List<NoteSummary> page = hasNext ? summaries.subList(0, size) : summaries;
 
-        // 기준점: static 폴더 이후 경로
-        String marker = "/static/";
-        int idx = storedPath.indexOf(marker);
-        if (idx == -1) return storedPath; // fallback: 그대로 반환
+        String nextCursor = null;
+        if (hasNext) {
+            NoteSummary last = page.get(page.size() - 1);
+            nextCursor = new NoteCursor(last.getCreatedAt(), last.getNoteId()).encode();
+        }
 
-        // "noteImages/..." 형태만 추출
-        String relativePath = storedPath.substring(idx + marker.length());
-        return "/" + relativePath; // "/noteImages/..." 형태
+        return NoteResponseDTO.NoteSliceResponse.builder()
+                .notes(page.stream().map(this::toSimpleNoteDTO).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * storedPath(BlobStore 키)에서 이미지 URL 경로 생성
+     * 예: "3f/a2/3fa2...e1.png" → "/noteImages/3f/a2/3fa2...e1.png" (NoteImageContentController)
+     */
+    private String extractPublicUrlFromStoredPath(String storedPath) {
+        return "/noteImages/" + storedPath;
     }
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_note_member_created", columnList = "member_id, created_at, id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
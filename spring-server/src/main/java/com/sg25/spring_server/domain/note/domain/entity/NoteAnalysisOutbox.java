@@ -0,0 +1,73 @@
+package com.sg25.spring_server.domain.note.domain.entity;
+
+import com.sg25.spring_server.domain.model.BaseEntity;
+import com.sg25.spring_server.domain.model.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * OCR 분석 요청 Outbox
+ * NoteImage와 같은 트랜잭션에서 저장되고, 커밋 이후 Relay가 Flask로 전달한다.
+ * 여러 인스턴스의 Relay가 같은 행을 보내지 않도록 claimToken + nextAttemptAt(임대 만료)으로 선점한다.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_claim_token", columnList = "claim_token")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class NoteAnalysisOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long noteImageId;
+
+    @Column(nullable = false)
+    private String storedPath;
+
+    private String fileName;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    private LocalDateTime sentAt;
+
+    // 마지막으로 선점한 Relay 배치 토큰 (임대가 만료되면 다른 배치가 덮어씀)
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 전달 실패 처리 (Relay는 바뀐 값을 선점 토큰 조건부 UPDATE로 기록): 최대 시도 횟수를 넘기면 FAILED, 아니면 지수 백오프 후 재시도
+    public void markAttemptFailed(String error, int maxAttempts, Duration baseBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        long multiplier = 1L << Math.min(this.attempts - 1, 10);
+        this.nextAttemptAt = LocalDateTime.now().plus(baseBackoff.multipliedBy(multiplier));
+    }
+}
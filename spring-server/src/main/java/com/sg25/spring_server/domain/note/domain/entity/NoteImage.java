@@ -6,6 +6,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_note_image_content_hash", columnList = "content_hash"),
+        @Index(name = "idx_note_image_stored_path", columnList = "stored_path")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,6 +21,11 @@ public class NoteImage extends BaseEntity {
 
     private String storedPath;              // S3 key or local path
 
+    private Long fileSize;                  // 저장된 파일 크기 (byte)
+
+    @Column(length = 64)
+    private String contentHash;             // 파일 내용 SHA-256 (hex)
+
     @Enumerated(EnumType.STRING)
     private NoteImageStatus noteImageStatus;                  // WAITING, PROCESSING, DONE, ERROR
 
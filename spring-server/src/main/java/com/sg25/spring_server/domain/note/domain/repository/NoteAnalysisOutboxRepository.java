@@ -0,0 +1,75 @@
+package com.sg25.spring_server.domain.note.domain.repository;
+
+import com.sg25.spring_server.domain.model.enums.OutboxStatus;
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NoteAnalysisOutboxRepository extends JpaRepository<NoteAnalysisOutbox, Long> {
+
+    // 전달 대상(PENDING + 재시도 시각 도래) 배치 선점: 한 문장으로 토큰을 찍고 임대 시간만큼 재시도 시각을 미룸
+    // 다른 인스턴스는 임대가 끝나기 전까지 같은 행을 가져가지 못한다.
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE note_analysis_outbox
+            SET claim_token = :claimToken, next_attempt_at = :leaseUntil
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :batchSize
+            """, nativeQuery = true)
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("batchSize") int batchSize);
+
+    List<NoteAnalysisOutbox> findByClaimTokenAndStatusOrderByIdAsc(String claimToken, OutboxStatus status);
+
+    // 전달 결과 기록: 선점 토큰이 그대로인 행만 갱신 (그 사이 삭제되었거나 임대가 만료되어 다른 배치가 가져간 행은 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+            update NoteAnalysisOutbox o
+            set o.status = com.sg25.spring_server.domain.model.enums.OutboxStatus.SENT,
+                o.attempts = o.attempts + 1, o.sentAt = :now, o.lastError = null
+            where o.id in :ids and o.claimToken = :claimToken
+            """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update NoteAnalysisOutbox o
+            set o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError
+            where o.id = :id and o.claimToken = :claimToken
+            """)
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("claimToken") String claimToken,
+                          @Param("status") OutboxStatus status,
+                          @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    // 전달 완료 행 배치 정리 (배치마다 커밋해 긴 락을 피함)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM note_analysis_outbox WHERE status = 'SENT' AND sent_at < :before LIMIT :batchSize", nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("batchSize") int batchSize);
+
+    // 삭제되는 노트의 분석 요청 정리
+    @Modifying
+    @Query("delete from NoteAnalysisOutbox o where o.noteImageId in (select i.id from NoteImage i where i.note.id in :noteIds)")
+    int deleteByNoteIds(@Param("noteIds") Collection<Long> noteIds);
+
+    // 저장소 마이그레이션: 대기 중인 분석 요청의 이미지 경로를 새 키로 교체
+    @Modifying
+    @Query("update NoteAnalysisOutbox o set o.storedPath = :key where o.storedPath = :storedPath")
+    int updateStoredPath(@Param("storedPath") String storedPath, @Param("key") String key);
+}
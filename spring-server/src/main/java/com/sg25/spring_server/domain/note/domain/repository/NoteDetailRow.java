@@ -0,0 +1,18 @@
+package com.sg25.spring_server.domain.note.domain.repository;
+
+import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
+
+/**
+ * 노트 상세 조회용 프로젝션 (노트 1행 × 이미지 N행, 이미지가 없으면 image 컬럼은 null)
+ */
+public record NoteDetailRow(
+        Long noteId,
+        String title,
+        String content,
+        Long imageId,
+        String storedPath,
+        String contentHash,
+        String recognizedText,
+        NoteImageStatus noteImageStatus
+) {
+}
@@ -0,0 +1,37 @@
+package com.sg25.spring_server.domain.note.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * NoteImage 대량 갱신 전용 JDBC 리포지토리
+ * 엔티티를 거치지 않고 JDBC batch update 한 번으로 여러 행을 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoteImageJdbcRepository {
+
+    private static final String UPDATE_RECOGNITION_SQL =
+            "UPDATE note_image SET recognized_text = ?, note_image_status = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchUpdateRecognition(List<NoteImageRecognitionUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_RECOGNITION_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.recognizedText());
+            ps.setString(2, update.status().name());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, update.noteImageId());
+        });
+    }
+}
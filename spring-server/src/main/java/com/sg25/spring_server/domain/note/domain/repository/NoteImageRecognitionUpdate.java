@@ -0,0 +1,9 @@
+package com.sg25.spring_server.domain.note.domain.repository;
+
+import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
+
+/**
+ * OCR 결과 일괄 반영용 행 (noteImageId → 인식 텍스트/상태)
+ */
+public record NoteImageRecognitionUpdate(Long noteImageId, String recognizedText, NoteImageStatus status) {
+}
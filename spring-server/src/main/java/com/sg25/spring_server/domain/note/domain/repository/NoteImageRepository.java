@@ -1,13 +1,68 @@
 package com.sg25.spring_server.domain.note.domain.repository;
 
+import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
 import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface NoteImageRepository extends JpaRepository<NoteImage, Long> {
 
     List<NoteImage> findAllByNoteId(Long noteId);
 
-    void deleteAllByNoteId(Long noteId);
+    @Modifying
+    @Query("delete from NoteImage i where i.note.id in :noteIds")
+    int deleteByNoteIds(@Param("noteIds") Collection<Long> noteIds);
+
+    // 분석 요청 전달을 포기한 이미지 일괄 ERROR 처리
+    @Transactional
+    @Modifying
+    @Query("update NoteImage i set i.noteImageStatus = :status, i.recognizedText = null where i.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") NoteImageStatus status);
+
+    // 내용 해시 기반 중복 이미지 조회
+    Optional<NoteImage> findFirstByContentHashAndNoteImageStatus(String contentHash, NoteImageStatus noteImageStatus);
+
+    Optional<NoteImage> findFirstByContentHashOrderByIdAsc(String contentHash);
+
+    @Query("select i.storedPath from NoteImage i where i.note.id = :noteId")
+    List<String> findStoredPathsByNoteId(@Param("noteId") Long noteId);
+
+    // 파일 회수 전 참조 확인 (중복 제거로 여러 이미지가 한 파일을 공유할 수 있음)
+    @Query("select distinct i.storedPath from NoteImage i where i.storedPath in :storedPaths")
+    List<String> findReferencedPaths(@Param("storedPaths") Collection<String> storedPaths);
+
+    // 파생 이미지(썸네일/미리보기) 회수 전 참조 확인: 파생본은 원본 내용 해시에 묶인다
+    @Query("select distinct i.contentHash from NoteImage i where i.contentHash in :contentHashes")
+    List<String> findReferencedHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    // 저장소 마이그레이션: BlobStore 키 형식("ab/cd/...")이 아닌 기존 디스크 경로 (storedPath 키셋 순회)
+    @Query("""
+            select distinct i.storedPath from NoteImage i
+            where i.storedPath not like '__/__/%' and i.storedPath > :after
+            order by i.storedPath
+            """)
+    List<String> findLegacyStoredPaths(@Param("after") String after, Pageable pageable);
+
+    @Modifying
+    @Query("update NoteImage i set i.storedPath = :key, i.contentHash = :contentHash where i.storedPath = :storedPath")
+    int updateStoredPath(@Param("storedPath") String storedPath, @Param("key") String key, @Param("contentHash") String contentHash);
+
+    // 검색 재색인: 해당 상태 이미지를 가진 노트 ID (note.id 키셋 순회)
+    @Query("""
+            select distinct i.note.id from NoteImage i
+            where i.noteImageStatus = :status and i.note.id > :after
+            order by i.note.id
+            """)
+    List<Long> findNoteIdsByStatusAfter(@Param("status") NoteImageStatus status, @Param("after") Long after, Pageable pageable);
+
+    @Query("select i from NoteImage i where i.note.id in :noteIds and i.noteImageStatus = :status")
+    List<NoteImage> findAllByNoteIdsAndStatus(@Param("noteIds") Collection<Long> noteIds, @Param("status") NoteImageStatus status);
 }
@@ -1,11 +1,64 @@
 package com.sg25.spring_server.domain.note.domain.repository;
 
 import com.sg25.spring_server.domain.note.domain.entity.Note;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
 
-    List<Note> findAllByMemberId(Long memberId);
+    // 첫 페이지: (created_at, id) 내림차순
+    @Query("""
+            select n.id as noteId, n.title as title, n.createdAt as createdAt
+            from Note n
+            where n.member.id = :memberId
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NoteSummary> findFirstSummaries(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 다음 페이지: 커서 (createdAt, id) 이후부터 조회 (keyset)
+    @Query("""
+            select n.id as noteId, n.title as title, n.createdAt as createdAt
+            from Note n
+            where n.member.id = :memberId
+              and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :noteId))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NoteSummary> findSummariesAfter(@Param("memberId") Long memberId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("noteId") Long noteId,
+                                         Pageable pageable);
+
+    // 노트 상세: 노트 + 이미지를 한 번의 left join으로 DTO 프로젝션 조회 (엔티티 미관리)
+    @Query("""
+            select new com.sg25.spring_server.domain.note.domain.repository.NoteDetailRow(
+                n.id, n.title, n.content, i.id, i.storedPath, i.contentHash, i.recognizedText, i.noteImageStatus)
+            from Note n
+            left join n.noteImageList i
+            where n.id = :noteId
+            order by i.id asc
+            """)
+    List<NoteDetailRow> findDetailRows(@Param("noteId") Long noteId);
+
+    @Query("select n.id as noteId, n.title as title, n.createdAt as createdAt from Note n where n.id in :noteIds")
+    List<NoteSummary> findSummariesByIdIn(@Param("noteIds") Collection<Long> noteIds);
+
+    @Query("select n.member.id from Note n where n.id = :noteId")
+    Optional<Long> findMemberIdById(@Param("noteId") Long noteId);
+
+    long countByMemberId(Long memberId);
+
+    @Query("select n.id from Note n where n.member.id = :memberId order by n.id asc")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Note n where n.id in :noteIds")
+    int deleteByIds(@Param("noteIds") Collection<Long> noteIds);
 }
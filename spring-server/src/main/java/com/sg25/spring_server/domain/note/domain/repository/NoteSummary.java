@@ -0,0 +1,15 @@
+package com.sg25.spring_server.domain.note.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노트 목록 조회용 프로젝션 (id, 제목, 생성일만 조회)
+ */
+public interface NoteSummary {
+
+    Long getNoteId();
+
+    String getTitle();
+
+    LocalDateTime getCreatedAt();
+}
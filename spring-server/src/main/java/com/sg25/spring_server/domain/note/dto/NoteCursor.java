@@ -0,0 +1,32 @@
+package com.sg25.spring_server.domain.note.dto;
+
+import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
+import com.sg25.spring_server.global.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 노트 목록 keyset 커서 (마지막으로 본 노트의 createdAt, id)
+ * 클라이언트에는 "createdAt|id"를 base64url로 인코딩한 불투명 토큰으로 전달
+ */
+public record NoteCursor(LocalDateTime createdAt, Long noteId) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + noteId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NoteCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new NoteCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,9 +17,11 @@ public class NoteResponseDTO {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class NoteImageResponse {
+    public static class NoteImageResponse implements Serializable {
         private Long imageId;
-        private String imageUrl;
+        private String imageUrl;        // 원본
+        private String thumbnailUrl;    // 목록용 축소본 (없으면 null → imageUrl 사용)
+        private String previewUrl;      // 상세 화면용 축소본
         private String analysisResult;
         private NoteImageStatus noteImageStatus;
     }
@@ -27,7 +30,17 @@ public class NoteResponseDTO {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class NoteViewResponse {
+    public static class NoteImageStatusResponse implements Serializable {
+        private Long imageId;
+        private NoteImageStatus noteImageStatus;
+        private String analysisResult;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NoteViewResponse implements Serializable {
         private Long noteId;
         private String title;
         private String content;
@@ -38,9 +51,19 @@ public class NoteResponseDTO {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class NoteSimpleViewResponse {
+    public static class NoteSimpleViewResponse implements Serializable {
         private Long noteId;
         private String title;
         private LocalDateTime createdAt;
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NoteSliceResponse implements Serializable {
+        private List<NoteSimpleViewResponse> notes;
+        private String nextCursor;      // 다음 페이지 요청 시 전달 (없으면 null)
+        private boolean hasNext;
+    }
 }
@@ -0,0 +1,8 @@
+package com.sg25.spring_server.domain.note.event;
+
+/**
+ * 노트 생성 트랜잭션에서 OCR 분석 요청(Outbox)이 적재되었음을 알리는 이벤트
+ * 커밋 이후 Relay를 깨우는 용도로만 사용한다.
+ */
+public record NoteAnalysisRequestedEvent(Long noteId, int imageCount) {
+}
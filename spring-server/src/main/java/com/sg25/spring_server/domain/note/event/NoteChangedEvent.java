@@ -0,0 +1,12 @@
+package com.sg25.spring_server.domain.note.event;
+
+/**
+ * 노트 또는 노트 이미지가 변경됨 (캐시 무효화용)
+ * memberId가 null이면 목록에 보이는 값(제목, 생성일)은 바뀌지 않은 것으로 보고 상세만 무효화한다.
+ */
+public record NoteChangedEvent(Long noteId, Long memberId) {
+
+    public static NoteChangedEvent detailOnly(Long noteId) {
+        return new NoteChangedEvent(noteId, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sg25.spring_server.domain.note.event;
+
+import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+
+import java.util.List;
+
+/**
+ * 노트 이미지 인식 상태가 반영됨 (SSE 구독자에게 전달, 인스턴스 간 fanout 메시지로도 사용)
+ */
+public record NoteImageStatusChangedEvent(Long noteId, List<NoteResponseDTO.NoteImageStatusResponse> images) {
+}
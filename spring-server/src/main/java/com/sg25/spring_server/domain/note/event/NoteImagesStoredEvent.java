@@ -0,0 +1,10 @@
+package com.sg25.spring_server.domain.note.event;
+
+import java.util.Map;
+
+/**
+ * 노트 생성 트랜잭션에서 이미지 원본이 저장되었음을 알리는 이벤트 (내용 해시 → 저장소 키)
+ * 커밋 이후 썸네일/미리보기 생성에 사용한다.
+ */
+public record NoteImagesStoredEvent(Long noteId, Map<String, String> storedPathByHash) {
+}
@@ -2,17 +2,26 @@ package com.sg25.spring_server.domain.note.service;
 
 import com.sg25.spring_server.domain.note.dto.NoteRequestDTO;
 import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 public interface NoteService {
 
+    // 목록 기본 페이지 크기 (이 크기의 첫 페이지만 캐시됨)
+    int DEFAULT_PAGE_SIZE = 20;
+
     NoteResponseDTO.NoteViewResponse createNote(NoteRequestDTO.CreateNoteRequest request, Long memberId);
 
-    List<NoteResponseDTO.NoteSimpleViewResponse> getNoteList(Long memberId);
+    NoteResponseDTO.NoteSliceResponse getNoteList(Long memberId, String cursor, int size);
 
     NoteResponseDTO.NoteViewResponse getNoteDetail(Long noteId);
 
     void deleteNote(Long noteId, Long memberId);
 
+    // 여러 노트를 일괄 삭제 (소유 확인은 호출 측 책임, 회원 삭제 시 사용)
+    void deleteNotes(Long memberId, List<Long> noteIds);
+
+    SseEmitter subscribeStatus(Long noteId, Long memberId);
+
 }
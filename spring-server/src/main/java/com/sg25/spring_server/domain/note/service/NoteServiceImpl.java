@@ -5,27 +5,41 @@ import com.sg25.spring_server.domain.member.domain.repository.MemberRepository;
 import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
 import com.sg25.spring_server.domain.note.converter.NoteConverter;
 import com.sg25.spring_server.domain.note.domain.entity.Note;
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
 import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteAnalysisOutboxRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteDetailRow;
 import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
 import com.sg25.spring_server.domain.note.domain.repository.NoteRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteSummary;
+import com.sg25.spring_server.domain.note.dto.NoteCursor;
 import com.sg25.spring_server.domain.note.dto.NoteRequestDTO;
 import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import com.sg25.spring_server.domain.note.event.NoteAnalysisRequestedEvent;
+import com.sg25.spring_server.domain.note.event.NoteChangedEvent;
+import com.sg25.spring_server.domain.note.event.NoteImageStatusChangedEvent;
+import com.sg25.spring_server.domain.note.event.NoteImagesStoredEvent;
+import com.sg25.spring_server.domain.search.service.SearchService;
+import com.sg25.spring_server.global.config.CacheConfig;
 import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
 import com.sg25.spring_server.global.exception.GeneralException;
+import com.sg25.spring_server.global.infra.sse.NoteStatusEmitterRegistry;
+import com.sg25.spring_server.global.infra.storage.NoteImageStorage;
+import com.sg25.spring_server.global.infra.storage.gc.FileTombstoneRepository;
+import com.sg25.spring_server.global.infra.storage.StoredImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.*;
 
 @Slf4j
@@ -36,13 +50,16 @@ public class NoteServiceImpl implements NoteService {
     private final NoteRepository noteRepository;
     private final NoteImageRepository noteImageRepository;
     private final MemberRepository memberRepository;
+    private final NoteAnalysisOutboxRepository outboxRepository;
     private final NoteConverter noteConverter;
-    private final WebClient webClient;
+    private final NoteImageStorage noteImageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NoteStatusEmitterRegistry statusEmitterRegistry;
+    private final SearchService searchService;
+    private final FileTombstoneRepository fileTombstoneRepository;
 
-    @Value("${flask.base-url}")
-    private String flaskBaseUrl;
+    private static final int MAX_PAGE_SIZE = 100;
 
-    private static final String BASE_PATH = new File("src/main/resources/static/noteImages").getAbsolutePath();
 
     @Override
     @Transactional
@@ -57,109 +74,183 @@ public class NoteServiceImpl implements NoteService {
 
         // 노트에서 ID 추출
         Long noteId = note.getId();
-        // 사용자 이메일에서 아이디 부분 추출 (예: hogeun@example.com → hogeun)
-        String emailPrefix = member.getEmail().split("@")[0];
-        // 이메일/노트ID 기반 폴더 경로 설정
-        String userFolderPath = BASE_PATH + "/" + emailPrefix + "/" + noteId + "/";
-        // 폴더 없으면 생성
-        File directory = new File(userFolderPath);
-        if (!directory.exists()) {
-            directory.mkdirs();
-        }
 
         // 이미지 저장
         List<NoteImage> imageEntities = new ArrayList<>();
+        List<NoteResponseDTO.NoteImageStatusResponse> reusedResults = new ArrayList<>();
+        Map<String, String> storedImages = new LinkedHashMap<>();
+
+        int dispatchCount = 0;
 
         log.info("📦 업로드된 이미지 개수: {}", request.getImages().size());
 
         for (MultipartFile file : request.getImages()) {
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            String storedPath = userFolderPath + fileName;
+            String originalFilename = file.getOriginalFilename();
 
+            // 업로드 파트를 한 번만 스트리밍하면서 크기/해시 계산 → 내용 해시 키로 BlobStore에 저장
+            // 같은 내용은 같은 키에 저장되므로 중복 파일이 따로 생기지 않는다
+            StoredImage storedImage;
             try {
-                file.transferTo(new File(storedPath));
-                log.info("📸 저장 완료: {}", storedPath);
+                storedImage = noteImageStorage.store(file);
+                log.info("📸 저장 완료: {} ({} bytes)", storedImage.key(), storedImage.size());
             } catch (IOException e) {
-                log.error("❌ 파일 저장 실패: {}", storedPath, e);
+                log.error("❌ 파일 저장 실패: {}", originalFilename, e);
                 throw new GeneralException(ErrorStatus._FILE_UPLOAD_FAIL);
             }
+            String storedPath = storedImage.key();
+            storedImages.putIfAbsent(storedImage.contentHash(), storedPath);
+            String fileName = StringUtils.hasText(originalFilename) ? originalFilename : storedPath;
+
+            // 같은 내용(SHA-256)의 인식 완료 이미지가 있으면 결과를 그대로 복사하고 분석 요청 생략
+            Optional<NoteImage> duplicate = noteImageRepository
+                    .findFirstByContentHashAndNoteImageStatus(storedImage.contentHash(), NoteImageStatus.DONE);
+            duplicate.ifPresent(image -> log.info("♻️ 중복 이미지 인식 결과 재사용: {} → {}", fileName, storedPath));
+            boolean recognized = duplicate.isPresent();
 
-            // 저장된 경로: src/main/resources/static/noteImages/userEmailPrefix/noteId/a.png → NoteImage에는 전체 경로 저장
+            // NoteImage에는 BlobStore 키 저장 (예: 3f/a2/3fa2...e1.png)
             NoteImage noteImage = NoteImage.builder()
                     .storedPath(storedPath)
-                    .noteImageStatus(NoteImageStatus.NOT_RECOGNIZED) // 처리 전 표시
+                    .fileSize(storedImage.size())
+                    .contentHash(storedImage.contentHash())
+                    .recognizedText(recognized ? duplicate.get().getRecognizedText() : null)
+                    .noteImageStatus(recognized ? NoteImageStatus.DONE : NoteImageStatus.NOT_RECOGNIZED) // 처리 전 표시
                     .note(note)
                     .build();
 
             noteImageRepository.save(noteImage);
             imageEntities.add(noteImage);
 
-            // Flask API 통신 로직
-
-            // 1. 이미지 파일을 byte[]로 읽고
-            byte[] imageBytes;
-            try {
-                imageBytes = Files.readAllBytes(Paths.get(storedPath));
-            } catch (IOException e) {
-                throw new GeneralException(ErrorStatus._FILE_UPLOAD_FAIL);
+            if (recognized) {
+                reusedResults.add(NoteResponseDTO.NoteImageStatusResponse.builder()
+                        .imageId(noteImage.getId())
+                        .noteImageStatus(NoteImageStatus.DONE)
+                        .analysisResult(noteImage.getRecognizedText())
+                        .build());
+                continue;
             }
 
-            // 2. base64로 인코딩
-            String base64Image = Base64.getEncoder().encodeToString(imageBytes);
-
-            // 3. JSON 직렬화 후, Body 구성
-            Map<String, Object> body = Map.of(
-                    "noteImageId", noteImage.getId(),
-                    "imageBase64", base64Image, // Base64 이미지
-                    "fileName", fileName // 기타 내용으로 변경 가능
-            );
-
-            // 4. API uri + header + body 후 전송 (WebFlux 활용 비동기 처리)
-            webClient.post()
-                    .uri(flaskBaseUrl+"/analyze")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .bodyValue(body)
-                    .retrieve()
-                    .toBodilessEntity() // 응답 본문 없이 상태만 받음 (204 No Content 등)
-                    .subscribe(
-                            response -> log.info("✅ 분석 요청 성공: status = {}", response.getStatusCode()),
-                            error -> log.error("❌ 분석 요청 실패", error)
-                    );
+            // Flask 분석 요청은 같은 트랜잭션에서 Outbox에 적재 → 커밋 이후 Relay가 전달
+            outboxRepository.save(NoteAnalysisOutbox.builder()
+                    .noteImageId(noteImage.getId())
+                    .storedPath(storedPath)
+                    .fileName(fileName)
+                    .build());
+            dispatchCount++;
+        }
+
+        // 썸네일/미리보기는 커밋 이후 전용 실행기에서 생성
+        if (!storedImages.isEmpty()) {
+            eventPublisher.publishEvent(new NoteImagesStoredEvent(noteId, storedImages));
+        }
+        if (dispatchCount > 0) {
+            eventPublisher.publishEvent(new NoteAnalysisRequestedEvent(noteId, dispatchCount));
+        }
+        if (!reusedResults.isEmpty()) {
+            // 인식 결과를 재사용한 이미지는 바로 검색 색인 대상
+            eventPublisher.publishEvent(new NoteImageStatusChangedEvent(noteId, reusedResults));
         }
+        eventPublisher.publishEvent(new NoteChangedEvent(noteId, memberId));
 
         return noteConverter.toNoteResponseDTO(note, imageEntities);
     }
 
     @Override
-    public List<NoteResponseDTO.NoteSimpleViewResponse> getNoteList(Long memberId) {
-        List<Note> notes = noteRepository.findAllByMemberId(memberId);
-        return notes.stream()
-                .map(noteConverter::toSimpleNoteDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.NOTE_LIST, key = "#memberId",
+            condition = "#cursor == null && #size == T(com.sg25.spring_server.domain.note.service.NoteService).DEFAULT_PAGE_SIZE")
+    public NoteResponseDTO.NoteSliceResponse getNoteList(Long memberId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<NoteSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = noteRepository.findFirstSummaries(memberId, limit);
+        } else {
+            NoteCursor noteCursor = NoteCursor.decode(cursor);
+            summaries = noteRepository.findSummariesAfter(memberId, noteCursor.createdAt(), noteCursor.noteId(), limit);
+        }
+
+        return noteConverter.toNoteSliceDTO(summaries, pageSize);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.NOTE_DETAIL, key = "#noteId")
     public NoteResponseDTO.NoteViewResponse getNoteDetail(Long noteId) {
-        Note note = noteRepository.findById(noteId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
+        // 노트 + 이미지 한 번에 조회 (프로젝션이라 영속성 컨텍스트에 엔티티가 올라가지 않음)
+        List<NoteDetailRow> rows = noteRepository.findDetailRows(noteId);
+        if (rows.isEmpty()) {
+            throw new GeneralException(ErrorStatus._NOT_FOUND);
+        }
 
-        List<NoteImage> images = noteImageRepository.findAllByNoteId(noteId);
-        return noteConverter.toNoteResponseDTO(note, images);
+        return noteConverter.toNoteResponseDTO(rows);
     }
 
     @Override
     @Transactional
     public void deleteNote(Long noteId, Long memberId) {
-        Note note = noteRepository.findById(noteId)
+        // 소유자만 프로젝션으로 확인 (노트/이미지 엔티티를 로딩하지 않음)
+        Long ownerId = noteRepository.findMemberIdById(noteId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
 
-        if (!Objects.equals(note.getMember().getId(), memberId)) {
+        if (!Objects.equals(ownerId, memberId)) {
             throw new GeneralException(ErrorStatus._UNAUTHORIZED);
         }
 
-        // 연관 이미지 삭제
-        noteImageRepository.deleteAllByNoteId(noteId);
-        // 노트 삭제
-        noteRepository.delete(note);
+        deleteNotes(memberId, List.of(noteId));
+    }
+
+    @Override
+    @Transactional
+    public void deleteNotes(Long memberId, List<Long> noteIds) {
+        if (noteIds.isEmpty()) {
+            return;
+        }
+
+        // 1. 이미지 파일은 커밋 이후 백그라운드에서 회수 (같은 트랜잭션에 묘비 기록, INSERT ... SELECT 1회)
+        fileTombstoneRepository.tombstoneImagesOfNotes(noteIds);
+        // 2. 검색 색인, 미전달 분석 요청 삭제
+        searchService.removeNotes(noteIds);
+        outboxRepository.deleteByNoteIds(noteIds);
+        // 3. 이미지 → 노트 순으로 set 기반 일괄 삭제 (엔티티 로딩/행 단위 DELETE 없음)
+        noteImageRepository.deleteByNoteIds(noteIds);
+        noteRepository.deleteByIds(noteIds);
+
+        // 4. 커밋 이후 캐시 무효화
+        noteIds.forEach(noteId -> eventPublisher.publishEvent(new NoteChangedEvent(noteId, memberId)));
+    }
+
+    @Override
+    public SseEmitter subscribeStatus(Long noteId, Long memberId) {
+        // 1. 소유자만 구독 가능 (emitter 등록 전에 확인)
+        Long ownerId = noteRepository.findMemberIdById(noteId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
+        if (!Objects.equals(ownerId, memberId)) {
+            throw new GeneralException(ErrorStatus._FORBIDDEN);
+        }
+
+        // 2. 먼저 등록해야 스냅샷 조회와 등록 사이의 상태 변경을 놓치지 않음
+        SseEmitter emitter = statusEmitterRegistry.register(noteId);
+
+        // 3. 현재 상태 스냅샷 전송 (이후 변경분은 status 이벤트로 전달)
+        NoteResponseDTO.NoteViewResponse note;
+        try {
+            note = getNoteDetail(noteId);
+        } catch (GeneralException e) {
+            statusEmitterRegistry.remove(noteId, emitter);
+            throw e;
+        }
+
+        List<NoteResponseDTO.NoteImageStatusResponse> snapshot = note.getImages().stream()
+                .map(image -> NoteResponseDTO.NoteImageStatusResponse.builder()
+                        .imageId(image.getImageId())
+                        .noteImageStatus(image.getNoteImageStatus())
+                        .analysisResult(image.getAnalysisResult())
+                        .build())
+                .toList();
+        statusEmitterRegistry.send(noteId, emitter, SseEmitter.event().name("snapshot").data(snapshot));
+
+        return emitter;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.sg25.spring_server.domain.search.controller;
+
+import com.sg25.spring_server.domain.auth.principal.LoginMemberId;
+import com.sg25.spring_server.domain.search.dto.SearchResponseDTO;
+import com.sg25.spring_server.domain.search.service.SearchService;
+import com.sg25.spring_server.global.apiPayLoad.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "검색 API", description = "인식된 손글씨 텍스트 검색 API")
+@RestController
+@RequestMapping("/api/v1/notes/search")
+@RequiredArgsConstructor
+public class SearchRestController {
+
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "노트 검색",
+            description = "현재 로그인한 사용자의 노트를 인식된 손글씨 텍스트로 검색합니다. 결과는 관련도순이며 snippet의 일치 구간은 <em>으로 감싸집니다.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "검색 결과 반환",
+                            content = @Content(schema = @Schema(implementation = SearchResponseDTO.NoteSearchResponse.class))
+                    )
+            }
+    )
+    @GetMapping
+    public ApiResponse<SearchResponseDTO.NoteSearchResponse> search(
+            @Parameter(description = "검색어") @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 수 (최대 50)") @RequestParam(defaultValue = "20") int size,
+            @LoginMemberId Long memberId
+    ) {
+        return ApiResponse.onSuccess(searchService.search(memberId, query, size));
+    }
+}
@@ -0,0 +1,32 @@
+package com.sg25.spring_server.domain.search.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 검색 색인 문서 (인식 완료된 NoteImage 1개 = 문서 1개)
+ * BM25 길이 정규화를 위해 문서의 토큰 수를 저장한다.
+ */
+@Entity
+@Table(name = "search_document", indexes = {
+        @Index(name = "idx_search_document_member", columnList = "member_id"),
+        @Index(name = "idx_search_document_note", columnList = "note_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class SearchDocument {
+
+    @Id
+    private Long noteImageId;
+
+    @Column(nullable = false)
+    private Long noteId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private int termCount;
+}
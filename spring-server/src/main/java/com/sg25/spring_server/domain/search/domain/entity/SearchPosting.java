@@ -0,0 +1,49 @@
+package com.sg25.spring_server.domain.search.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 역색인 포스팅 (n-gram 토큰 → 문서)
+ * PK가 (term, member_id, note_image_id)라 InnoDB 클러스터드 인덱스에서 회원별 포스팅 목록이 연속으로 읽힌다.
+ */
+@Entity
+@Table(name = "search_posting", indexes = {
+        @Index(name = "idx_search_posting_image", columnList = "note_image_id"),
+        @Index(name = "idx_search_posting_note", columnList = "note_id")
+})
+@IdClass(SearchPosting.PostingId.class)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class SearchPosting {
+
+    @Id
+    @Column(length = 8)
+    private String term;
+
+    @Id
+    private Long memberId;
+
+    @Id
+    private Long noteImageId;
+
+    @Column(nullable = false)
+    private Long noteId;
+
+    @Column(nullable = false)
+    private int tf;                 // 문서 내 토큰 등장 횟수
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PostingId implements Serializable {
+        private String term;
+        private Long memberId;
+        private Long noteImageId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.sg25.spring_server.domain.search.domain.repository;
+
+/**
+ * 회원별 색인 통계 (BM25 idf, 평균 문서 길이 계산용)
+ */
+public interface CorpusStats {
+
+    long getDocumentCount();
+
+    double getAverageLength();
+}
@@ -0,0 +1,27 @@
+package com.sg25.spring_server.domain.search.domain.repository;
+
+import com.sg25.spring_server.domain.search.domain.entity.SearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface SearchDocumentRepository extends JpaRepository<SearchDocument, Long> {
+
+    @Query("""
+            select count(d) as documentCount, coalesce(avg(d.termCount), 0) as averageLength
+            from SearchDocument d
+            where d.memberId = :memberId
+            """)
+    CorpusStats getCorpusStats(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from SearchDocument d where d.noteImageId in :noteImageIds")
+    int deleteByNoteImageIds(@Param("noteImageIds") Collection<Long> noteImageIds);
+
+    @Modifying
+    @Query("delete from SearchDocument d where d.noteId in :noteIds")
+    int deleteByNoteIds(@Param("noteIds") Collection<Long> noteIds);
+}
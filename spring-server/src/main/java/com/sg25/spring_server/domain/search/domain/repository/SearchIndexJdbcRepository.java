@@ -0,0 +1,45 @@
+package com.sg25.spring_server.domain.search.domain.repository;
+
+import com.sg25.spring_server.domain.search.domain.entity.SearchDocument;
+import com.sg25.spring_server.domain.search.domain.entity.SearchPosting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 검색 색인 대량 적재 전용 JDBC 리포지토리
+ * 이미지 하나에서 수백 개의 포스팅이 나오므로 엔티티 persist 대신 JDBC batch insert로 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexJdbcRepository {
+
+    private static final String INSERT_POSTING_SQL =
+            "INSERT INTO search_posting (term, member_id, note_image_id, note_id, tf) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_DOCUMENT_SQL =
+            "INSERT INTO search_document (note_image_id, note_id, member_id, term_count) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<SearchDocument> documents, List<SearchPosting> postings) {
+        if (!documents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DOCUMENT_SQL, documents, documents.size(), (ps, document) -> {
+                ps.setLong(1, document.getNoteImageId());
+                ps.setLong(2, document.getNoteId());
+                ps.setLong(3, document.getMemberId());
+                ps.setInt(4, document.getTermCount());
+            });
+        }
+        if (!postings.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POSTING_SQL, postings, 1000, (ps, posting) -> {
+                ps.setString(1, posting.getTerm());
+                ps.setLong(2, posting.getMemberId());
+                ps.setLong(3, posting.getNoteImageId());
+                ps.setLong(4, posting.getNoteId());
+                ps.setInt(5, posting.getTf());
+            });
+        }
+    }
+}
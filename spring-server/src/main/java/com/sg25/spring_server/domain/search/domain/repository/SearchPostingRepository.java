@@ -0,0 +1,25 @@
+package com.sg25.spring_server.domain.search.domain.repository;
+
+import com.sg25.spring_server.domain.search.domain.entity.SearchPosting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchPostingRepository extends JpaRepository<SearchPosting, SearchPosting.PostingId> {
+
+    // 회원의 포스팅 목록 중 질의 토큰에 해당하는 것만 (PK 범위 조회)
+    @Query("select p from SearchPosting p where p.memberId = :memberId and p.term in :terms")
+    List<SearchPosting> findPostings(@Param("memberId") Long memberId, @Param("terms") Collection<String> terms);
+
+    @Modifying
+    @Query("delete from SearchPosting p where p.noteImageId in :noteImageIds")
+    int deleteByNoteImageIds(@Param("noteImageIds") Collection<Long> noteImageIds);
+
+    @Modifying
+    @Query("delete from SearchPosting p where p.noteId in :noteIds")
+    int deleteByNoteIds(@Param("noteIds") Collection<Long> noteIds);
+}
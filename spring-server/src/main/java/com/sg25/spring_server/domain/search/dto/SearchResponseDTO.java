@@ -0,0 +1,34 @@
+package com.sg25.spring_server.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SearchResponseDTO {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NoteSearchResult {
+        private Long noteId;
+        private String title;
+        private LocalDateTime createdAt;
+        private Long imageId;           // 가장 잘 일치한 이미지
+        private String snippet;         // 일치 구간이 <em>으로 강조된 HTML 조각
+        private double score;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NoteSearchResponse {
+        private String query;
+        private List<NoteSearchResult> results;
+    }
+}
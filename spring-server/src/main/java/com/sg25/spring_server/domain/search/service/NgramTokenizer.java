@@ -0,0 +1,70 @@
+package com.sg25.spring_server.domain.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 문자 unigram + bigram 토크나이저
+ * 한글 OCR 결과는 띄어쓰기·조사가 불규칙하므로 형태소 분석 대신 어절 내부 2글자 단위로 자른다.
+ * (예: "마음을 담아" → 마음, 음을, 담아)
+ * 한 글자 질의("꿈")도 찾을 수 있도록 색인에는 모든 글자의 unigram을 함께 넣고,
+ * 질의는 두 글자 이상 어절이면 bigram만, 한 글자 어절이면 unigram으로 자른다.
+ */
+public final class NgramTokenizer {
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * NFKC 정규화 + 소문자 (전각/반각, 호환 자모 차이 제거)
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용: 토큰 → 등장 횟수
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String gram : grams(text, true)) {
+            frequencies.merge(gram, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * 질의용: 중복 제거된 토큰 (등장 순서 유지)
+     */
+    public static Set<String> queryTerms(String query) {
+        return new LinkedHashSet<>(grams(query, false));
+    }
+
+    private static List<String> grams(String text, boolean allUnigrams) {
+        List<String> grams = new ArrayList<>();
+        if (text == null) {
+            return grams;
+        }
+        for (String word : WORD_DELIMITER.split(normalize(text))) {
+            int[] codePoints = word.codePoints().toArray();
+            if (allUnigrams || codePoints.length == 1) {
+                for (int codePoint : codePoints) {
+                    grams.add(Character.toString(codePoint));
+                }
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+}
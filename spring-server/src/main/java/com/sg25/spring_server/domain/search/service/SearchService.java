@@ -0,0 +1,19 @@
+package com.sg25.spring_server.domain.search.service;
+
+import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import com.sg25.spring_server.domain.search.dto.SearchResponseDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchService {
+
+    // 회원 노트 검색 (BM25)
+    SearchResponseDTO.NoteSearchResponse search(Long memberId, String query, int size);
+
+    // 인식 상태가 바뀐 이미지 재색인 (DONE이 아니면 색인에서 제거)
+    void indexImages(Long noteId, List<NoteResponseDTO.NoteImageStatusResponse> images);
+
+    // 노트 삭제 시 색인 제거
+    void removeNotes(Collection<Long> noteIds);
+}
@@ -0,0 +1,177 @@
+package com.sg25.spring_server.domain.search.service;
+
+import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
+import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteSummary;
+import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import com.sg25.spring_server.domain.search.domain.entity.SearchDocument;
+import com.sg25.spring_server.domain.search.domain.entity.SearchPosting;
+import com.sg25.spring_server.domain.search.domain.repository.CorpusStats;
+import com.sg25.spring_server.domain.search.domain.repository.SearchDocumentRepository;
+import com.sg25.spring_server.domain.search.domain.repository.SearchIndexJdbcRepository;
+import com.sg25.spring_server.domain.search.domain.repository.SearchPostingRepository;
+import com.sg25.spring_server.domain.search.dto.SearchResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_SIZE = 50;
+
+    private final SearchPostingRepository postingRepository;
+    private final SearchDocumentRepository documentRepository;
+    private final SearchIndexJdbcRepository searchIndexJdbcRepository;
+    private final NoteRepository noteRepository;
+    private final NoteImageRepository noteImageRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResponseDTO.NoteSearchResponse search(Long memberId, String query, int size) {
+        Set<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return toResponse(query, List.of());
+        }
+
+        // 1. 질의 토큰의 포스팅만 조회 (회원 범위, PK 범위 조회)
+        List<SearchPosting> postings = postingRepository.findPostings(memberId, terms);
+        if (postings.isEmpty()) {
+            return toResponse(query, List.of());
+        }
+
+        // 2. BM25 점수 계산 (이미지 단위)
+        CorpusStats stats = documentRepository.getCorpusStats(memberId);
+        Map<String, Long> documentFrequency = postings.stream()
+                .collect(Collectors.groupingBy(SearchPosting::getTerm, Collectors.counting()));
+        Map<Long, SearchDocument> documents = documentRepository.findAllById(
+                        postings.stream().map(SearchPosting::getNoteImageId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(SearchDocument::getNoteImageId, Function.identity()));
+
+        Map<Long, Double> imageScores = new HashMap<>();
+        Map<Long, Long> imageToNote = new HashMap<>();
+        for (SearchPosting posting : postings) {
+            SearchDocument document = documents.get(posting.getNoteImageId());
+            if (document == null) {
+                continue;
+            }
+            double idf = idf(stats.getDocumentCount(), documentFrequency.get(posting.getTerm()));
+            double lengthNorm = 1 - B + B * document.getTermCount() / Math.max(stats.getAverageLength(), 1.0);
+            double score = idf * posting.getTf() * (K1 + 1) / (posting.getTf() + K1 * lengthNorm);
+
+            imageScores.merge(posting.getNoteImageId(), score, Double::sum);
+            imageToNote.put(posting.getNoteImageId(), posting.getNoteId());
+        }
+
+        // 3. 노트 단위로 묶어 가장 잘 맞는 이미지 점수로 순위 결정
+        Map<Long, Map.Entry<Long, Double>> bestImageByNote = new HashMap<>();
+        imageScores.forEach((imageId, score) -> bestImageByNote.merge(imageToNote.get(imageId),
+                Map.entry(imageId, score), (a, b) -> a.getValue() >= b.getValue() ? a : b));
+
+        List<Map.Entry<Long, Map.Entry<Long, Double>>> ranked = bestImageByNote.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<Long, Map.Entry<Long, Double>> e) -> e.getValue().getValue())
+                        .reversed())
+                .limit(Math.max(1, Math.min(size, MAX_SIZE)))
+                .toList();
+
+        // 4. 상위 결과만 제목/본문 조회 후 스니펫 생성
+        Map<Long, NoteSummary> notes = noteRepository.findSummariesByIdIn(
+                        ranked.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(NoteSummary::getNoteId, Function.identity()));
+        Map<Long, String> texts = noteImageRepository.findAllById(
+                        ranked.stream().map(e -> e.getValue().getKey()).toList())
+                .stream()
+                .collect(Collectors.toMap(NoteImage::getId, image -> Objects.toString(image.getRecognizedText(), "")));
+
+        List<SearchResponseDTO.NoteSearchResult> results = ranked.stream()
+                .filter(e -> notes.containsKey(e.getKey()))         // 색인 반영 중 삭제된 노트 제외
+                .map(e -> SearchResponseDTO.NoteSearchResult.builder()
+                        .noteId(e.getKey())
+                        .title(notes.get(e.getKey()).getTitle())
+                        .createdAt(notes.get(e.getKey()).getCreatedAt())
+                        .imageId(e.getValue().getKey())
+                        .snippet(SnippetHighlighter.highlight(texts.get(e.getValue().getKey()), terms))
+                        .score(e.getValue().getValue())
+                        .build())
+                .toList();
+
+        return toResponse(query, results);
+    }
+
+    @Override
+    @Transactional
+    public void indexImages(Long noteId, List<NoteResponseDTO.NoteImageStatusResponse> images) {
+        Optional<Long> memberId = noteRepository.findMemberIdById(noteId);
+        if (memberId.isEmpty()) {
+            return;                     // 이미 삭제된 노트
+        }
+
+        // 1. 기존 색인 제거 (재인식 대비)
+        List<Long> imageIds = images.stream().map(NoteResponseDTO.NoteImageStatusResponse::getImageId).toList();
+        postingRepository.deleteByNoteImageIds(imageIds);
+        documentRepository.deleteByNoteImageIds(imageIds);
+
+        // 2. 인식 완료된 이미지만 토큰화하여 적재
+        List<SearchDocument> documents = new ArrayList<>();
+        List<SearchPosting> postings = new ArrayList<>();
+        for (NoteResponseDTO.NoteImageStatusResponse image : images) {
+            if (image.getNoteImageStatus() != NoteImageStatus.DONE || image.getAnalysisResult() == null) {
+                continue;
+            }
+            Map<String, Integer> frequencies = NgramTokenizer.termFrequencies(image.getAnalysisResult());
+            if (frequencies.isEmpty()) {
+                continue;
+            }
+
+            frequencies.forEach((term, tf) -> postings.add(SearchPosting.builder()
+                    .term(term)
+                    .memberId(memberId.get())
+                    .noteImageId(image.getImageId())
+                    .noteId(noteId)
+                    .tf(tf)
+                    .build()));
+            documents.add(SearchDocument.builder()
+                    .noteImageId(image.getImageId())
+                    .noteId(noteId)
+                    .memberId(memberId.get())
+                    .termCount(frequencies.values().stream().mapToInt(Integer::intValue).sum())
+                    .build());
+        }
+
+        searchIndexJdbcRepository.batchInsert(documents, postings);
+        log.info("🔎 검색 색인 반영: noteId = {}, 문서 {}건, 포스팅 {}건", noteId, documents.size(), postings.size());
+    }
+
+    @Override
+    @Transactional
+    public void removeNotes(Collection<Long> noteIds) {
+        postingRepository.deleteByNoteIds(noteIds);
+        documentRepository.deleteByNoteIds(noteIds);
+    }
+
+    // BM25 idf (음수가 되지 않도록 +1)
+    private double idf(long documentCount, long documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private SearchResponseDTO.NoteSearchResponse toResponse(String query, List<SearchResponseDTO.NoteSearchResult> results) {
+        return SearchResponseDTO.NoteSearchResponse.builder()
+                .query(query)
+                .results(results)
+                .build();
+    }
+}
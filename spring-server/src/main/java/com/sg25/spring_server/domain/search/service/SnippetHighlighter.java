@@ -0,0 +1,71 @@
+package com.sg25.spring_server.domain.search.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 검색 결과 스니펫 생성
+ * 첫 일치 위치 주변만 잘라 HTML 이스케이프한 뒤, 질의 토큰과 일치한 구간을 <em>으로 감싼다.
+ */
+final class SnippetHighlighter {
+
+    private static final int LEADING_CONTEXT = 30;
+    private static final int SNIPPET_LENGTH = 120;
+    private static final String ELLIPSIS = "…";
+
+    private SnippetHighlighter() {
+    }
+
+    static String highlight(String text, Collection<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        // 색인과 같은 기준(NFKC)으로 맞춘 텍스트를 보여주고, 소문자 사본에서 위치를 찾는다
+        String display = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        String lower = display.toLowerCase(Locale.ROOT);
+        if (lower.length() != display.length()) {
+            lower = display;            // 대소문자 변환으로 길이가 바뀌는 문자는 강조 생략
+        }
+
+        // 1. 질의 토큰이 등장하는 모든 위치 표시
+        boolean[] hit = new boolean[display.length()];
+        int firstHit = -1;
+        for (String term : terms) {
+            for (int from = lower.indexOf(term); from >= 0; from = lower.indexOf(term, from + 1)) {
+                for (int i = from; i < from + term.length(); i++) {
+                    hit[i] = true;
+                }
+                if (firstHit < 0 || from < firstHit) {
+                    firstHit = from;
+                }
+            }
+        }
+
+        // 2. 첫 일치 위치 기준 창 선택
+        int start = Math.max(0, (firstHit < 0 ? 0 : firstHit) - LEADING_CONTEXT);
+        int end = Math.min(display.length(), start + SNIPPET_LENGTH);
+
+        // 3. 이스케이프 + 강조
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        int i = start;
+        while (i < end) {
+            int runEnd = i;
+            while (runEnd < end && hit[runEnd] == hit[i]) {
+                runEnd++;
+            }
+            String escaped = HtmlUtils.htmlEscape(display.substring(i, runEnd));
+            snippet.append(hit[i] ? "<em>" + escaped + "</em>" : escaped);
+            i = runEnd;
+        }
+        if (end < display.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sg25.spring_server.global.config;
+
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStoreFactory;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStoreType;
+import jakarta.servlet.MultipartConfigElement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class BlobStoreConfig {
+
+    // 노트 이미지 저장소 (note.storage.type: LOCAL | S3), S3 클라이언트는 종료 시 close
+    @Bean
+    public BlobStore blobStore(BlobStoreFactory factory, @Value("${note.storage.type:LOCAL}") BlobStoreType type) {
+        BlobStore blobStore = factory.create(type);
+        log.info("🗄️ 이미지 저장소: {}", type);
+        return blobStore;
+    }
+
+    // 업로드 파트 임시 파일을 저장소 staging 디렉터리에 받음 (파트 → 저장소 키까지 rename만, 디스크 쓰기 1회)
+    // 나머지 값(크기 제한, threshold)은 spring.servlet.multipart.* 그대로 사용
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties properties, BlobStore blobStore) {
+        MultipartConfigElement base = properties.createMultipartConfig();
+        return new MultipartConfigElement(blobStore.stagingDirectory().toString(),
+                base.getMaxFileSize(), base.getMaxRequestSize(), base.getFileSizeThreshold());
+    }
+}
@@ -0,0 +1,17 @@
+package com.sg25.spring_server.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노트 조회 캐시 설정
+ * 인스턴스별 caffeine 캐시 (크기·TTL은 spring.cache.caffeine.spec 으로 지정)
+ * 무효화는 NoteCacheInvalidator 가 fanout exchange로 모든 인스턴스에 전파한다
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String NOTE_DETAIL = "noteDetail";   // key: noteId
+    public static final String NOTE_LIST = "noteList";       // key: memberId (기본 크기 첫 페이지만)
+}
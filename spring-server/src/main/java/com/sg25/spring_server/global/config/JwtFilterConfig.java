@@ -1,7 +1,7 @@
 package com.sg25.spring_server.global.config;
 
 import com.sg25.spring_server.domain.auth.jwt.JwtAuthFilter;
-import com.sg25.spring_server.domain.auth.jwt.JwtProvider;
+import com.sg25.spring_server.domain.auth.jwt.JwtVerifier;
 import com.sg25.spring_server.domain.auth.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -12,11 +12,11 @@ import org.springframework.context.annotation.Configuration;
 public class JwtFilterConfig {
 
     private final AuthService authService;
-    private final JwtProvider jwtProvider;
+    private final JwtVerifier jwtVerifier;
 
     @Bean
     public JwtAuthFilter jwtAuthFilter() {
-        return new JwtAuthFilter(jwtProvider, authService);
+        return new JwtAuthFilter(jwtVerifier, authService);
     }
 }
 
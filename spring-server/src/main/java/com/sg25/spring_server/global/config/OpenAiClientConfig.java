@@ -0,0 +1,76 @@
+package com.sg25.spring_server.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 전용 WebClient 설정
+ * 커넥션 풀을 애플리케이션 전체에서 공유해 TCP/TLS 연결을 재사용한다.
+ * 풀/요청 지표는 Micrometer(reactor.netty.connection.provider.*, reactor.netty.http.client.*)로 노출된다.
+ */
+@Configuration
+public class OpenAiClientConfig {
+
+    @Value("${ai.openai.api-key}")
+    private String gptKey;
+
+    @Value("${ai.openai.url}")
+    private String gptUrl;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(
+            @Value("${ai.openai.pool.max-connections:50}") int maxConnections,
+            @Value("${ai.openai.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${ai.openai.pool.pending-acquire-timeout:60s}") Duration pendingAcquireTimeout,
+            @Value("${ai.openai.pool.max-idle-time:55s}") Duration maxIdleTime,
+            @Value("${ai.openai.pool.max-life-time:10m}") Duration maxLifeTime) {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)       // 서버 측 idle 종료보다 짧게 유지
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient openAiWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider openAiConnectionProvider,
+            @Value("${ai.openai.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${ai.openai.response-timeout:60s}") Duration responseTimeout,
+            @Value("${ai.openai.http2:true}") boolean http2) {
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)
+                .metrics(true, uri -> "/v1/chat/completions");
+
+        // HTTP/2는 TLS(ALPN) 협상으로 사용하고, 지원하지 않으면 HTTP/1.1로 내려간다.
+        if (http2) {
+            httpClient = httpClient
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+
+        return webClientBuilder.clone()
+                .baseUrl(gptUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + gptKey)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+}
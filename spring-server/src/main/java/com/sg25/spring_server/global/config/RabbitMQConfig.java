@@ -1,21 +1,40 @@
 package com.sg25.spring_server.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
 public class RabbitMQConfig {
 
     public static final String RESULT_QUEUE = "note.analyze.result";
     public static final String EXCHANGE_NAME = "note.exchange";
     public static final String RESULT_ROUTING_KEY = "note.analyze.result";
+    public static final String REQUEST_QUEUE = "note.analyze.request";
+    public static final String REQUEST_ROUTING_KEY = "note.analyze.request";
+    public static final String NOTE_STATUS_EXCHANGE = "note.status.fanout";
+    public static final String TOKEN_REVOCATION_EXCHANGE = "auth.revocation.fanout";
+    public static final String NOTE_CACHE_EXCHANGE = "note.cache.fanout";
+
+    // 분석 요청 큐 (Spring → AI)
+    @Bean
+    public Queue requestQueue() {
+        return new Queue(REQUEST_QUEUE, true);
+    }
 
     // 분석 결과 수신 큐 (AI → Spring)
     @Bean
@@ -35,17 +54,96 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(resultQueue).to(noteExchange).with(RESULT_ROUTING_KEY);
     }
 
+    // 요청 큐 바인딩
+    @Bean
+    public Binding requestBinding(Queue requestQueue, DirectExchange noteExchange) {
+        return BindingBuilder.bind(requestQueue).to(noteExchange).with(REQUEST_ROUTING_KEY);
+    }
+
+    // 노트 이미지 상태 브로드캐스트 (Spring 인스턴스 간 SSE fanout)
+    @Bean
+    public FanoutExchange noteStatusExchange() {
+        return new FanoutExchange(NOTE_STATUS_EXCHANGE);
+    }
+
+    // 인스턴스 전용 임시 큐 (exclusive, auto-delete: 인스턴스 종료 시 함께 삭제)
+    @Bean
+    public Queue noteStatusQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding noteStatusBinding(Queue noteStatusQueue, FanoutExchange noteStatusExchange) {
+        return BindingBuilder.bind(noteStatusQueue).to(noteStatusExchange);
+    }
+
+    // 토큰 폐기(로그아웃) 브로드캐스트 (Spring 인스턴스 간 fanout)
+    @Bean
+    public FanoutExchange tokenRevocationExchange() {
+        return new FanoutExchange(TOKEN_REVOCATION_EXCHANGE);
+    }
+
+    @Bean
+    public Queue tokenRevocationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding tokenRevocationBinding(Queue tokenRevocationQueue, FanoutExchange tokenRevocationExchange) {
+        return BindingBuilder.bind(tokenRevocationQueue).to(tokenRevocationExchange);
+    }
+
+    // 노트 캐시 무효화 브로드캐스트 (인스턴스별 caffeine 캐시 정합성)
+    @Bean
+    public FanoutExchange noteCacheExchange() {
+        return new FanoutExchange(NOTE_CACHE_EXCHANGE);
+    }
+
+    @Bean
+    public Queue noteCacheQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding noteCacheBinding(Queue noteCacheQueue, FanoutExchange noteCacheExchange) {
+        return BindingBuilder.bind(noteCacheQueue).to(noteCacheExchange);
+    }
+
     // JSON 직렬화 컨버터
     @Bean
     public Jackson2JsonMessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
 
+    // 분석 결과 배치 수신용 컨테이너 (batchSize개가 모이거나 receiveTimeout이 지나면 한 번에 전달)
+    // 수동 ack: 리스너가 비동기 처리 완료 후 ack 하며, prefetch가 ack 전 메시지(진행 중 보정) 수의 상한이 된다.
+    @Bean
+    public SimpleRabbitListenerContainerFactory resultBatchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${note.analyze.result.batch-size:50}") int batchSize,
+            @Value("${note.analyze.result.receive-timeout:500}") long receiveTimeout,
+            @Value("${note.analyze.result.max-in-flight:250}") int maxInFlight) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setPrefetchCount(Math.max(maxInFlight, batchSize));
+        return factory;
+    }
+
     // RabbitTemplate에 JSON 컨버터 연결 (확장성 고려하여 MQ 전송시에 사용 가능)
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(jsonMessageConverter());
+        // 라우팅 불가 메시지는 버리지 않고 반환받음 (publisher-returns)
+        template.setMandatory(true);
+        template.setReturnsCallback(returned -> log.warn("⚠️ MQ 메시지 반환됨: exchange = {}, routingKey = {}, reply = {} {}",
+                returned.getExchange(), returned.getRoutingKey(), returned.getReplyCode(), returned.getReplyText()));
         return template;
     }
 }
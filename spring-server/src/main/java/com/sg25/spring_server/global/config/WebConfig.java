@@ -1,16 +1,22 @@
 package com.sg25.spring_server.global.config;
 
+import com.sg25.spring_server.domain.auth.principal.LoginMemberIdArgumentResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // 기본 WebClient (Flask 등), OpenAI는 OpenAiClientConfig의 openAiWebClient 사용
     @Bean
+    @Primary
     public WebClient webClient() {
         return WebClient.builder().build();
     }
@@ -24,11 +30,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true); // 세션, 쿠키 필요시
     }
 
+    // @LoginMemberId → 토큰에서 식별한 회원 ID
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/noteImages/**")
-                .addResourceLocations("file:src/main/resources/static/noteImages/")
-                .setCachePeriod(3600)
-                .resourceChain(true);
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new LoginMemberIdArgumentResolver());
     }
 }
@@ -6,6 +6,7 @@ import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
@@ -49,6 +50,12 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
         return handleExceptionInternalArgs(e,HttpHeaders.EMPTY,ErrorStatus.valueOf("_BAD_REQUEST"),request,errors);
     }
 
+    // @PreAuthorize 거부: 아래 Exception 핸들러가 500으로 바꾸지 않도록 403으로 응답
+    @ExceptionHandler
+    public ResponseEntity<Object> accessDenied(AccessDeniedException e, WebRequest request) {
+        return handleExceptionInternalConstraint(e, ErrorStatus._FORBIDDEN, HttpHeaders.EMPTY, request);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Object> exception(Exception e, WebRequest request) {
         e.printStackTrace();
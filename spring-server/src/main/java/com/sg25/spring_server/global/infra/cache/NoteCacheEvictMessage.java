@@ -0,0 +1,7 @@
+package com.sg25.spring_server.global.infra.cache;
+
+/**
+ * 인스턴스 간 노트 캐시 무효화 전파 메시지 (memberId가 null이면 상세만 무효화)
+ */
+public record NoteCacheEvictMessage(Long noteId, Long memberId) {
+}
@@ -0,0 +1,67 @@
+package com.sg25.spring_server.global.infra.cache;
+
+import com.sg25.spring_server.domain.note.event.NoteChangedEvent;
+import com.sg25.spring_server.global.config.CacheConfig;
+import com.sg25.spring_server.global.config.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 노트 캐시 무효화
+ * 캐시는 인스턴스별(caffeine)이므로 변경을 받은 인스턴스는 즉시 로컬에서 지우고 fanout exchange로 브로드캐스트하며,
+ * 각 인스턴스는 자기 전용 임시 큐에서 받아 같은 키를 지운다. (자기 메시지 중복 수신은 멱등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * 변경이 커밋된 뒤에 해당 노트 상세 / 작성자 목록 캐시만 제거
+     * (커밋 전에 지우면 동시 조회가 이전 값을 다시 채울 수 있음)
+     * 트랜잭션 밖(결과 리스너의 JDBC 반영)에서 발행되면 즉시 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNoteChanged(NoteChangedEvent event) {
+        NoteCacheEvictMessage message = new NoteCacheEvictMessage(event.noteId(), event.memberId());
+        evictLocal(message);
+
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.NOTE_CACHE_EXCHANGE, "", message);
+        } catch (AmqpException e) {
+            // 브로커 장애 시 다른 인스턴스는 캐시 TTL(expireAfterWrite)까지 이전 값을 반환할 수 있음
+            log.warn("⚠️ 캐시 무효화 브로드캐스트 실패, 로컬에만 반영: noteId={}", event.noteId(), e);
+        }
+    }
+
+    @RabbitListener(queues = "#{noteCacheQueue.name}")
+    public void receive(NoteCacheEvictMessage message) {
+        evictLocal(message);
+    }
+
+    private void evictLocal(NoteCacheEvictMessage message) {
+        evict(CacheConfig.NOTE_DETAIL, message.noteId());
+        if (message.memberId() != null) {
+            evict(CacheConfig.NOTE_LIST, message.memberId());
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            log.debug("🧹 캐시 무효화: {}::{}", cacheName, key);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.sg25.spring_server.global.infra.flask;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlaskAnalyzeClient {
+
+    // base64는 3바이트 단위로 끊어 인코딩해야 청크를 이어 붙여도 올바른 문자열이 된다.
+    private static final int CHUNK_SIZE = 3 * 16 * 1024;
+    private static final DataBufferFactory BUFFER_FACTORY = DefaultDataBufferFactory.sharedInstance;
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final BlobStore blobStore;
+
+    @Value("${flask.base-url}")
+    private String flaskBaseUrl;
+
+    @Value("${flask.transport:BASE64_STREAM}")
+    private FlaskTransportMode transportMode;
+
+    /**
+     * Flask /analyze 로 분석 요청 전송
+     * 설정된 전송 방식(flask.transport)에 따라 바디를 구성한다.
+     * 이미지는 BlobStore에서 읽으므로 로컬/오브젝트 스토리지 어느 쪽이든 동일하게 동작한다.
+     */
+    public Mono<Void> requestAnalysis(NoteAnalysisOutbox outbox) {
+        return requestAnalysis(transportMode, outbox.getNoteImageId(), blobStore.getResource(outbox.getStoredPath()), outbox.getFileName());
+    }
+
+    public Mono<Void> requestAnalysis(FlaskTransportMode mode, Long noteImageId, Resource image, String fileName) {
+        Mono<WebClient.RequestHeadersSpec<?>> request = switch (mode) {
+            case JSON -> jsonRequest(noteImageId, image, fileName);
+            case BASE64_STREAM -> base64StreamRequest(noteImageId, image, fileName);
+            case MULTIPART -> Mono.fromSupplier(() -> multipartRequest(noteImageId, image, fileName));
+        };
+
+        return request
+                .flatMap(spec -> spec.retrieve().toBodilessEntity())
+                .doOnNext(response -> log.info("✅ 분석 요청 성공: noteImageId = {}, mode = {}, status = {}",
+                        noteImageId, mode, response.getStatusCode()))
+                .then();
+    }
+
+    // 호환 모드: 이미지 전체를 byte[] → base64 String으로 만든 뒤 Map을 JSON 직렬화
+    private Mono<WebClient.RequestHeadersSpec<?>> jsonRequest(Long noteImageId, Resource image, String fileName) {
+        return Mono.fromCallable(() -> {
+                    String base64Image = Base64.getEncoder().encodeToString(image.getContentAsByteArray());
+                    return Map.<String, Object>of(
+                            "noteImageId", noteImageId,
+                            "imageBase64", base64Image,
+                            "fileName", fileName
+                    );
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(body -> webClient.post()
+                        .uri(flaskBaseUrl + "/analyze")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body));
+    }
+
+    // 스트리밍 모드: JSON 앞/뒤 고정 부분 사이에 base64 청크를 흘려보냄 (이미지 전체를 메모리에 올리지 않음)
+    private Mono<WebClient.RequestHeadersSpec<?>> base64StreamRequest(Long noteImageId, Resource image, String fileName) {
+        return Mono.fromCallable(image::contentLength)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(fileSize -> {
+                    byte[] prefix = ("{\"noteImageId\":" + noteImageId
+                            + ",\"fileName\":" + toJsonString(fileName)
+                            + ",\"imageBase64\":\"").getBytes(StandardCharsets.UTF_8);
+                    byte[] suffix = "\"}".getBytes(StandardCharsets.UTF_8);
+                    long contentLength = prefix.length + base64Length(fileSize) + suffix.length;
+
+                    Flux<DataBuffer> body = Flux.concat(
+                            Mono.fromSupplier(() -> BUFFER_FACTORY.wrap(prefix)),
+                            base64Chunks(image),
+                            Mono.fromSupplier(() -> BUFFER_FACTORY.wrap(suffix)));
+
+                    return webClient.post()
+                            .uri(flaskBaseUrl + "/analyze")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .contentLength(contentLength)
+                            .body(BodyInserters.fromDataBuffers(body));
+                });
+    }
+
+    // 바이너리 모드: 파일은 multipart 파트로 그대로 스트리밍 (base64 인코딩은 Flask에서 수행)
+    private WebClient.RequestHeadersSpec<?> multipartRequest(Long noteImageId, Resource image, String fileName) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("noteImageId", String.valueOf(noteImageId));
+        builder.part("fileName", fileName);
+        builder.part("image", image)
+                .filename(fileName)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        return webClient.post()
+                .uri(flaskBaseUrl + "/analyze")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()));
+    }
+
+    // 이미지를 CHUNK_SIZE 단위로 읽어 base64로 인코딩한 청크 스트림
+    private Flux<DataBuffer> base64Chunks(Resource image) {
+        Base64.Encoder encoder = Base64.getEncoder();
+
+        return Flux.<DataBuffer, ReadableByteChannel>using(
+                        image::readableChannel,
+                        channel -> Flux.<DataBuffer, ByteBuffer>generate(() -> ByteBuffer.allocate(CHUNK_SIZE), (buffer, sink) -> {
+                            try {
+                                buffer.clear();
+                                // 마지막 청크를 제외하면 항상 CHUNK_SIZE를 꽉 채워야 한다.
+                                while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                                    // fill
+                                }
+                                buffer.flip();
+                                if (buffer.hasRemaining()) {
+                                    sink.next(BUFFER_FACTORY.wrap(encoder.encode(buffer)));
+                                } else {
+                                    sink.complete();
+                                }
+                            } catch (IOException e) {
+                                sink.error(e);
+                            }
+                            return buffer;
+                        }),
+                        channel -> {
+                            try {
+                                channel.close();
+                            } catch (IOException e) {
+                                log.warn("이미지 채널 종료 실패: {}", image.getDescription(), e);
+                            }
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static long base64Length(long size) {
+        return 4 * ((size + 2) / 3);
+    }
+
+    private String toJsonString(String value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
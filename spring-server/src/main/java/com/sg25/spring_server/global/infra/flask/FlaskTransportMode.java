@@ -0,0 +1,10 @@
+package com.sg25.spring_server.global.infra.flask;
+
+/**
+ * Flask /analyze 요청 전송 방식
+ */
+public enum FlaskTransportMode {
+    JSON,           // 호환 모드: 이미지 전체를 base64 String으로 만든 뒤 JSON 직렬화
+    BASE64_STREAM,  // 같은 JSON 계약, imageBase64 값만 청크 단위로 인코딩하며 스트리밍
+    MULTIPART;      // multipart/form-data 바이너리 파트로 파일을 그대로 스트리밍
+}
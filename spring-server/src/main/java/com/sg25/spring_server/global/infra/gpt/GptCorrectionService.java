@@ -1,14 +1,16 @@
 package com.sg25.spring_server.global.infra.gpt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg25.spring_server.global.infra.gpt.cache.GptCorrectionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -20,14 +22,29 @@ public class GptCorrectionService {
 
     private final ObjectMapper objectMapper;
 
-    @Value("${ai.openai.api-key}")
-    private String gptKey;
+    private final GptRateLimiter gptRateLimiter;
+    private final GptCorrectionCache gptCorrectionCache;
 
-    @Value("${ai.openai.url")
-    private String gptUrl;
+    @Qualifier("openAiWebClient")
+    private final WebClient openAiWebClient;
 
-    public String correctRecognizedText(String recognizedText) {
-        // 1. 프롬프트 구성
+    @Value("${ai.openai.model:gpt-3.5-turbo}")
+    private String model;
+
+    /**
+     * OCR 인식 텍스트 GPT 보정 (논블로킹)
+     * 같은 텍스트는 보정 캐시에서 바로 반환하며, 호출 스레드를 점유하지 않고 실패 시 원문을 그대로 방출한다.
+     */
+    public Mono<String> correctRecognizedText(String recognizedText) {
+        return gptCorrectionCache.getOrCompute(recognizedText, () -> requestCorrection(recognizedText))
+                .onErrorResume(e -> {
+                    log.error("❌ GPT 보정 실패", e);
+                    return Mono.just(recognizedText); // 실패 시 원문 반환 (캐시하지 않음)
+                });
+    }
+
+    private Mono<String> requestCorrection(String recognizedText) {
+        // 1. 프롬프트 구성 (문구를 바꾸면 ai.openai.correction.prompt-version도 올려 캐시를 무효화할 것)
         String prompt = """
             다음 텍스트는 이미지에서 OCR로 인식된 텍스트입니다. 인식 오류가 있을 수 있으므로, 자연스럽고 정확한 문장으로 보정해 주세요. 
             단, 원래 의미를 최대한 유지해야 합니다.
@@ -36,43 +53,39 @@ public class GptCorrectionService {
             %s
             """.formatted(recognizedText);
 
-        try {
-            // 2. WebClient 구성
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gptUrl)
-                    .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + gptKey)
-                    .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .build();
+        // 2. 요청 바디 구성
+        Map<String, Object> requestBody = Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role", "user", "content", prompt)
+                )
+        );
 
-            // 3. 요청 바디 구성
-            Map<String, Object> requestBody = Map.of(
-                    "model", "gpt-3.5-turbo",
-                    "messages", List.of(
-                            Map.of("role", "user", "content", prompt)
-                    )
-            );
+        // 3. RPM/TPM 예산 예약 (프롬프트 + 보정 결과 길이만큼 추정, 예산 초과 시 실패 대신 대기)
+        int estimatedTokens = gptRateLimiter.estimateTokens(prompt) + gptRateLimiter.estimateTokens(recognizedText);
 
-            // 4. 요청 전송 및 응답 파싱
-            String response = webClient.post()
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+        // 4. 요청 전송 및 응답 파싱 (공유 커넥션 풀 사용)
+        return gptRateLimiter.execute(estimatedTokens, () -> openAiWebClient.post()
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .toEntity(String.class))
+                // 5. 응답 JSON에서 보정된 텍스트 추출
+                .map(response -> extractCorrectedText(response.getBody(), estimatedTokens))
+                .doOnNext(corrected -> log.info("✅ GPT 보정 완료: {}", corrected));
+    }
 
-            // 5. 응답 JSON에서 보정된 텍스트 추출
+    private String extractCorrectedText(String response, int estimatedTokens) {
+        try {
             JsonNode root = objectMapper.readTree(response);
-            String corrected = root
+            gptRateLimiter.reconcile(estimatedTokens, root.path("usage").path("total_tokens").asInt(0));
+            return root
                     .path("choices")
                     .get(0)
                     .path("message")
                     .path("content")
                     .asText();
-
-            log.info("✅ GPT 보정 완료: {}", corrected);
-            return corrected;
-        } catch (Exception e) {
-            log.error("❌ GPT 보정 실패", e);
-            return recognizedText; // 실패 시 원문 반환
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("GPT 응답 파싱 실패", e);
         }
     }
-}
\ No newline at end of file
+}
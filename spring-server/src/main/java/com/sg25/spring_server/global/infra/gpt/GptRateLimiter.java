@@ -0,0 +1,332 @@
+package com.sg25.spring_server.global.infra.gpt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI 호출 클라이언트 측 속도 제한기
+ * - RPM / TPM 두 개의 토큰 버킷을 예약 방식으로 관리: 예산을 넘는 호출은 실패시키지 않고 필요한 만큼 지연(대기열)시킨다.
+ * - 응답의 x-ratelimit-* 헤더로 서버 측 잔여량/한도에 맞추고, 429 응답 시 reset 시각까지 예산을 비운 뒤 재시도한다.
+ * - 동시 호출 수는 AIMD(성공 시 +1, 429 시 절반)로 적응한다.
+ */
+@Slf4j
+@Component
+public class GptRateLimiter {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|s|m|h)");
+
+    private final ReservationBucket requestBucket;
+    private final ReservationBucket tokenBucket;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final int maxRetries;
+
+    public GptRateLimiter(
+            @Value("${ai.openai.rate-limit.requests-per-minute:3500}") int requestsPerMinute,
+            @Value("${ai.openai.rate-limit.tokens-per-minute:90000}") int tokensPerMinute,
+            @Value("${ai.openai.rate-limit.initial-concurrency:8}") int initialConcurrency,
+            @Value("${ai.openai.rate-limit.max-concurrency:64}") int maxConcurrency,
+            @Value("${ai.openai.rate-limit.max-retries:5}") int maxRetries) {
+        this.requestBucket = new ReservationBucket(requestsPerMinute);
+        this.tokenBucket = new ReservationBucket(tokensPerMinute);
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(initialConcurrency, maxConcurrency);
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * 프롬프트 토큰 수 추정 (cl100k 기준 근사)
+     * ASCII는 약 4자당 1토큰, 한글 등 비ASCII 문자는 약 1자당 1토큰으로 계산한다.
+     */
+    public int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int nonAscii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                nonAscii++;
+            }
+        }
+        return (ascii + 3) / 4 + nonAscii;
+    }
+
+    /**
+     * 예산 예약 → (필요 시 대기) → 동시성 허가 → 호출
+     * 429는 헤더 반영 후 백오프 재시도하며, 재시도마다 예산을 다시 예약한다.
+     */
+    public <T> Mono<ResponseEntity<T>> execute(int estimatedTokens, Supplier<Mono<ResponseEntity<T>>> call) {
+        return Mono.defer(() -> {
+                    long waitNanos = Math.max(requestBucket.reserve(1), tokenBucket.reserve(estimatedTokens));
+                    Mono<ResponseEntity<T>> attempt = Mono.usingWhen(
+                            concurrencyLimit.acquire(),
+                            permit -> call.get()
+                                    .doOnNext(response -> {
+                                        syncFromHeaders(response.getHeaders());
+                                        concurrencyLimit.onSuccess();
+                                    })
+                                    .doOnError(this::isTooManyRequests, e -> {
+                                        onRateLimited(((WebClientResponseException) e).getHeaders());
+                                        concurrencyLimit.onRateLimited();
+                                    }),
+                            permit -> Mono.fromRunnable(concurrencyLimit::release));
+
+                    if (waitNanos > 0) {
+                        log.debug("⏳ GPT 호출 대기: {}ms (tokens: {})", waitNanos / 1_000_000, estimatedTokens);
+                        return Mono.delay(Duration.ofNanos(waitNanos)).then(attempt);
+                    }
+                    return attempt;
+                })
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .filter(this::isTooManyRequests));
+    }
+
+    // 실제 사용량이 확인되면 추정치와의 차이를 토큰 버킷에 반영
+    public void reconcile(int estimatedTokens, int actualTokens) {
+        if (actualTokens > 0) {
+            tokenBucket.adjust(estimatedTokens - actualTokens);
+        }
+    }
+
+    private boolean isTooManyRequests(Throwable e) {
+        return e instanceof WebClientResponseException ex && ex.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void syncFromHeaders(HttpHeaders headers) {
+        requestBucket.sync(parseLong(headers.getFirst("x-ratelimit-limit-requests")),
+                parseLong(headers.getFirst("x-ratelimit-remaining-requests")));
+        tokenBucket.sync(parseLong(headers.getFirst("x-ratelimit-limit-tokens")),
+                parseLong(headers.getFirst("x-ratelimit-remaining-tokens")));
+    }
+
+    private void onRateLimited(HttpHeaders headers) {
+        syncFromHeaders(headers);
+
+        Duration retryAfter = parseDuration(headers.getFirst(HttpHeaders.RETRY_AFTER), true);
+        Duration resetRequests = parseDuration(headers.getFirst("x-ratelimit-reset-requests"), false);
+        Duration resetTokens = parseDuration(headers.getFirst("x-ratelimit-reset-tokens"), false);
+
+        // 어떤 예산이 소진됐는지 모르면 두 버킷 모두 reset 시각까지 비움
+        Duration pause = max(retryAfter, max(resetRequests, resetTokens));
+        if (pause.isZero()) {
+            pause = Duration.ofSeconds(1);
+        }
+        requestBucket.pauseFor(max(retryAfter, resetRequests.isZero() ? pause : resetRequests));
+        tokenBucket.pauseFor(max(retryAfter, resetTokens.isZero() ? pause : resetTokens));
+        log.warn("⚠️ OpenAI 429 수신: {}ms 동안 호출 보류, 동시성 한도 {}", pause.toMillis(), concurrencyLimit.limit());
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // "20ms", "1.5s", "6m0s" 형식 (retry-after는 초 단위 숫자)
+    private static Duration parseDuration(String value, boolean plainSeconds) {
+        if (value == null || value.isBlank()) {
+            return Duration.ZERO;
+        }
+        try {
+            if (plainSeconds) {
+                return Duration.ofMillis((long) (Double.parseDouble(value.trim()) * 1000));
+            }
+            Matcher matcher = DURATION_PART.matcher(value.trim());
+            double millis = 0;
+            while (matcher.find()) {
+                double amount = Double.parseDouble(matcher.group(1));
+                millis += switch (matcher.group(2)) {
+                    case "ms" -> amount;
+                    case "s" -> amount * 1_000;
+                    case "m" -> amount * 60_000;
+                    default -> amount * 3_600_000;
+                };
+            }
+            return Duration.ofMillis((long) Math.ceil(millis));
+        } catch (NumberFormatException e) {
+            return Duration.ZERO;
+        }
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * 분당 한도 기반 예약형 토큰 버킷
+     * 잔여량이 음수가 되도록 먼저 예약하고, 0으로 회복될 때까지의 시간만큼 호출자를 대기시킨다. (선착순 대기열과 동일한 효과)
+     */
+    static final class ReservationBucket {
+
+        private static final double NANOS_PER_MINUTE = 60_000_000_000d;
+
+        private double capacity;
+        private double refillPerNano;
+        private double available;
+        private long lastRefill = System.nanoTime();
+
+        ReservationBucket(long perMinute) {
+            this.capacity = perMinute;
+            this.refillPerNano = perMinute / NANOS_PER_MINUTE;
+            this.available = perMinute;
+        }
+
+        synchronized long reserve(double amount) {
+            refill();
+            available -= Math.min(amount, capacity);
+            return available >= 0 ? 0 : (long) Math.ceil(-available / refillPerNano);
+        }
+
+        synchronized void adjust(double delta) {
+            refill();
+            available = Math.min(capacity, available + delta);
+        }
+
+        // 서버가 알려준 한도/잔여량에 맞춤 (더 보수적인 쪽 유지)
+        synchronized void sync(Long limit, Long remaining) {
+            refill();
+            if (limit != null && limit > 0 && limit != capacity) {
+                capacity = limit;
+                refillPerNano = limit / NANOS_PER_MINUTE;
+            }
+            if (remaining != null) {
+                available = Math.min(available, remaining);
+            }
+        }
+
+        // reset 시각까지 새 예약이 모두 대기하도록 잔여량을 음수로 내림
+        synchronized void pauseFor(Duration duration) {
+            refill();
+            available = Math.min(available, -duration.toNanos() * refillPerNano);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+        }
+    }
+
+    /**
+     * AIMD 방식 동시성 한도
+     * 허가를 얻지 못한 호출은 대기열에서 순서대로 깨어난다.
+     */
+    static final class AdaptiveConcurrencyLimit {
+
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final int maxLimit;
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+        private int limit;
+        private int inFlight;
+        private int successesSinceIncrease;
+
+        AdaptiveConcurrencyLimit(int initialLimit, int maxLimit) {
+            this.limit = Math.max(1, initialLimit);
+            this.maxLimit = Math.max(this.limit, maxLimit);
+        }
+
+        Mono<Boolean> acquire() {
+            return Mono.create(sink -> {
+                Waiter waiter = new Waiter(sink);
+                sink.onCancel(() -> {
+                    if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                        synchronized (this) {
+                            waiters.remove(waiter);
+                        }
+                    } else {
+                        // 허가가 전달되기 직전에 취소됨 → 반납
+                        release();
+                    }
+                });
+
+                synchronized (this) {
+                    if (inFlight < limit && waiters.isEmpty()) {
+                        if (waiter.state.compareAndSet(WAITING, GRANTED)) {
+                            inFlight++;
+                        }
+                    } else if (waiter.state.get() == WAITING) {
+                        waiters.addLast(waiter);
+                    }
+                }
+                if (waiter.state.get() == GRANTED) {
+                    sink.success(Boolean.TRUE);
+                }
+            });
+        }
+
+        void release() {
+            synchronized (this) {
+                inFlight--;
+            }
+            grantWaiters();
+        }
+
+        void onSuccess() {
+            synchronized (this) {
+                if (++successesSinceIncrease >= limit && limit < maxLimit) {
+                    limit++;
+                    successesSinceIncrease = 0;
+                }
+            }
+            grantWaiters();
+        }
+
+        synchronized void onRateLimited() {
+            limit = Math.max(1, limit / 2);
+            successesSinceIncrease = 0;
+        }
+
+        synchronized int limit() {
+            return limit;
+        }
+
+        private void grantWaiters() {
+            while (true) {
+                Waiter next;
+                synchronized (this) {
+                    if (inFlight >= limit || waiters.isEmpty()) {
+                        return;
+                    }
+                    next = waiters.pollFirst();
+                    if (!next.state.compareAndSet(WAITING, GRANTED)) {
+                        continue;
+                    }
+                    inFlight++;
+                }
+                next.sink.success(Boolean.TRUE);
+            }
+        }
+
+        private static final class Waiter {
+            private final MonoSink<Boolean> sink;
+            private final AtomicInteger state = new AtomicInteger(WAITING);
+
+            Waiter(MonoSink<Boolean> sink) {
+                this.sink = sink;
+            }
+        }
+    }
+}
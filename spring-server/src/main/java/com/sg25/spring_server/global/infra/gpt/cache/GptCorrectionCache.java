@@ -0,0 +1,161 @@
+package com.sg25.spring_server.global.infra.gpt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * GPT 보정 결과 2단 캐시
+ * - 1차: 프로세스 내 Caffeine(W-TinyLFU, 크기 제한 + TTL)
+ * - 2차: MariaDB gpt_correction_cache 테이블 (재시작/다중 인스턴스 공유)
+ * 키는 정규화된 OCR 텍스트 + 모델 + 프롬프트 버전의 해시이므로, 프롬프트가 바뀌면 자연히 다른 키가 되고
+ * 기동 시 이전 버전 항목을 삭제한다.
+ * 별도의 전체 무효화 기능은 두지 않는다: 프롬프트를 수정하면 반드시
+ * ai.openai.correction.prompt-version을 올려야 이전 결과가 재사용되지 않는다.
+ */
+@Slf4j
+@Component
+public class GptCorrectionCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final GptCorrectionCacheEntryRepository repository;
+    private final Cache<String, String> localCache;
+    private final String promptVersion;
+    private final Duration ttl;
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+    private final Counter savedLatency;
+    private final Timer correctionLatency;
+
+    public GptCorrectionCache(
+            GptCorrectionCacheEntryRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${ai.openai.model:gpt-3.5-turbo}") String model,
+            @Value("${ai.openai.correction.prompt-version:v1}") String promptVersion,
+            @Value("${ai.openai.correction.cache.max-size:10000}") long maxSize,
+            @Value("${ai.openai.correction.cache.ttl:30d}") Duration ttl) {
+        this.repository = repository;
+        this.promptVersion = promptVersion + ":" + model;
+        this.ttl = ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "gptCorrection");
+        this.l1Hits = meterRegistry.counter("gpt.correction.cache.requests", "result", "l1_hit");
+        this.l2Hits = meterRegistry.counter("gpt.correction.cache.requests", "result", "l2_hit");
+        this.misses = meterRegistry.counter("gpt.correction.cache.requests", "result", "miss");
+        this.savedLatency = Counter.builder("gpt.correction.cache.saved.latency")
+                .baseUnit("milliseconds")
+                .description("캐시 적중으로 생략된 GPT 호출 시간 추정치 (평균 호출 시간 기준)")
+                .register(meterRegistry);
+        this.correctionLatency = Timer.builder("gpt.correction.latency")
+                .description("캐시 미스 시 GPT 보정 호출 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader로 보정하고 결과를 두 계층에 저장
+     * loader 에러는 캐시하지 않고 그대로 전달한다.
+     */
+    public Mono<String> getOrCompute(String recognizedText, Supplier<Mono<String>> loader) {
+        String key = cacheKey(recognizedText);
+
+        String cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            recordHit(l1Hits);
+            return Mono.just(cached);
+        }
+
+        return Mono.fromCallable(() -> repository.findById(key)
+                        .filter(entry -> entry.isValid(promptVersion, LocalDateTime.now()))
+                        .map(GptCorrectionCacheEntry::getCorrectedText)
+                        .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(corrected -> {
+                    recordHit(l2Hits);
+                    localCache.put(key, corrected);
+                })
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 보정 캐시(DB) 조회 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    misses.increment();
+                    long start = System.nanoTime();
+                    return loader.get()
+                            .doOnNext(corrected -> {
+                                correctionLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                                store(key, corrected);
+                            });
+                }));
+    }
+
+    // 기동 시 이전 프롬프트 버전 / 만료 항목 정리
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeOnStartup() {
+        purgeStale();
+    }
+
+    @Scheduled(cron = "${ai.openai.correction.cache.purge-cron:0 30 4 * * *}")
+    public void purgeStale() {
+        int deleted = repository.deleteStale(promptVersion, LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("🧹 GPT 보정 캐시 정리: {}건 삭제", deleted);
+        }
+    }
+
+    private void store(String key, String corrected) {
+        localCache.put(key, corrected);
+        // 한 문장 upsert: 존재 확인 SELECT가 없고, 동시에 미스가 난 인스턴스끼리 키 중복 오류가 나지 않음
+        Mono.fromRunnable(() -> repository.upsert(key, promptVersion, corrected, LocalDateTime.now().plus(ttl)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("⚠️ 보정 캐시(DB) 저장 실패: {}", e.getMessage()));
+    }
+
+    private void recordHit(Counter counter) {
+        counter.increment();
+        savedLatency.increment(correctionLatency.mean(TimeUnit.MILLISECONDS));
+    }
+
+    private String cacheKey(String recognizedText) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(recognizedText, Normalizer.Form.NFC))
+                .replaceAll(" ")
+                .trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(promptVersion.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
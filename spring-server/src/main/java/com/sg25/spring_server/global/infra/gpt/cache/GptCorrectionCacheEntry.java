@@ -0,0 +1,37 @@
+package com.sg25.spring_server.global.infra.gpt.cache;
+
+import com.sg25.spring_server.domain.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPT 보정 결과 영속 캐시 (2차 캐시)
+ * 키: SHA-256(프롬프트 버전 + 모델 + 정규화된 OCR 텍스트)
+ */
+@Entity
+@Table(name = "gpt_correction_cache", indexes = @Index(name = "idx_gpt_cache_expires_at", columnList = "expires_at"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class GptCorrectionCacheEntry extends BaseEntity {
+
+    @Id
+    @Column(length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 64)
+    private String promptVersion;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String correctedText;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isValid(String currentPromptVersion, LocalDateTime now) {
+        return promptVersion.equals(currentPromptVersion) && expiresAt.isAfter(now);
+    }
+}
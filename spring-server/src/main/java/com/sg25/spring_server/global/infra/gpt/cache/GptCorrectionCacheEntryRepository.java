@@ -0,0 +1,35 @@
+package com.sg25.spring_server.global.infra.gpt.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface GptCorrectionCacheEntryRepository extends JpaRepository<GptCorrectionCacheEntry, String> {
+
+    // 보정 결과 저장 (같은 키가 있으면 결과/만료 시각 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO gpt_correction_cache (cache_key, prompt_version, corrected_text, expires_at, created_at, updated_at)
+            VALUES (:cacheKey, :promptVersion, :correctedText, :expiresAt, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                prompt_version = VALUES(prompt_version),
+                corrected_text = VALUES(corrected_text),
+                expires_at = VALUES(expires_at),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey,
+               @Param("promptVersion") String promptVersion,
+               @Param("correctedText") String correctedText,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 만료되었거나 다른 프롬프트 버전으로 만들어진 항목 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from GptCorrectionCacheEntry e where e.promptVersion <> :promptVersion or e.expiresAt < :now")
+    int deleteStale(@Param("promptVersion") String promptVersion, @Param("now") LocalDateTime now);
+}
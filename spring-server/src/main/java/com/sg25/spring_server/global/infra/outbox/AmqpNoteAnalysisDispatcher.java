@@ -0,0 +1,95 @@
+package com.sg25.spring_server.global.infra.outbox;
+
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
+import com.sg25.spring_server.global.config.RabbitMQConfig;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RabbitMQ 요청 큐(note.analyze.request)로 전달
+ * 메시지에는 이미지 대신 저장소 키만 담고, 워커가 저장소(공유 볼륨 / S3)에서 직접 읽는다. (Spring 힙에 이미지를 올리지 않음)
+ * 배치를 모두 발행한 뒤 publisher confirm을 한꺼번에 기다리고(batched confirms),
+ * nack / 반환(라우팅 불가) / 타임아웃은 실패로 돌려 Outbox 재시도에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "note.analyze.dispatch", havingValue = "amqp")
+public class AmqpNoteAnalysisDispatcher implements NoteAnalysisDispatcher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlobStore blobStore;
+
+    @Value("${note.analyze.outbox.confirm-timeout:10s}")
+    private Duration confirmTimeout;
+
+    @Override
+    public Map<Long, String> dispatch(List<NoteAnalysisOutbox> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        List<Published> published = new ArrayList<>(batch.size());
+
+        // 1. 배치 전체 발행 (confirm 대기 없이)
+        for (NoteAnalysisOutbox outbox : batch) {
+            try {
+                CorrelationData correlation = new CorrelationData(String.valueOf(outbox.getId()));
+                rabbitTemplate.send(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.REQUEST_ROUTING_KEY,
+                        toMessage(outbox), correlation);
+                published.add(new Published(outbox, correlation));
+            } catch (Exception e) {
+                failures.put(outbox.getId(), String.valueOf(e.getMessage()));
+            }
+        }
+
+        // 2. confirm 일괄 대기
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (Published p : published) {
+            try {
+                CorrelationData.Confirm confirm = p.correlation().getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!confirm.isAck()) {
+                    failures.put(p.outbox().getId(), "nack: " + confirm.getReason());
+                } else if (p.correlation().getReturned() != null) {
+                    failures.put(p.outbox().getId(), "returned: " + p.correlation().getReturned().getReplyText());
+                }
+            } catch (Exception e) {
+                failures.put(p.outbox().getId(), "confirm 실패: " + e.getMessage());
+            }
+        }
+
+        log.info("📤 MQ 분석 요청 발행: {}건 (실패 {}건)", batch.size(), failures.size());
+        return failures;
+    }
+
+    // body는 비우고 식별 정보와 저장소 위치(종류 + 키)를 헤더로 전달
+    private Message toMessage(NoteAnalysisOutbox outbox) {
+        return MessageBuilder.withBody(new byte[0])
+                .setContentType(MessageProperties.CONTENT_TYPE_BYTES)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(String.valueOf(outbox.getId()))
+                .setHeader("noteImageId", outbox.getNoteImageId())
+                .setHeader("fileName", outbox.getFileName())
+                .setHeader("storageType", blobStore.type().name())
+                .setHeader("storageKey", outbox.getStoredPath())
+                .build();
+    }
+
+    private record Published(NoteAnalysisOutbox outbox, CorrelationData correlation) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.sg25.spring_server.global.infra.outbox;
+
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
+import com.sg25.spring_server.global.infra.flask.FlaskAnalyzeClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flask /analyze HTTP 호출로 전달 (기본값)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "note.analyze.dispatch", havingValue = "http", matchIfMissing = true)
+public class HttpNoteAnalysisDispatcher implements NoteAnalysisDispatcher {
+
+    private final FlaskAnalyzeClient flaskAnalyzeClient;
+
+    @Value("${note.analyze.outbox.concurrency:8}")
+    private int concurrency;
+
+    @Value("${note.analyze.outbox.request-timeout:30s}")
+    private Duration requestTimeout;
+
+    @Override
+    public Map<Long, String> dispatch(List<NoteAnalysisOutbox> batch) {
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        // 배치 내 요청은 제한된 동시성으로 병렬 전송, 개별 실패는 해당 레코드에만 기록
+        Flux.fromIterable(batch)
+                .flatMap(outbox -> flaskAnalyzeClient.requestAnalysis(outbox)
+                        .timeout(requestTimeout)
+                        .onErrorResume(e -> {
+                            failures.put(outbox.getId(), String.valueOf(e.getMessage()));
+                            return Mono.empty();
+                        }), concurrency)
+                .then()
+                .block();
+
+        return failures;
+    }
+}
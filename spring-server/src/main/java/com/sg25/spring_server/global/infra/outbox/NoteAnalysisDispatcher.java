@@ -0,0 +1,17 @@
+package com.sg25.spring_server.global.infra.outbox;
+
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox 배치를 분석 서버로 전달하는 방식 (note.analyze.dispatch: http | amqp)
+ */
+public interface NoteAnalysisDispatcher {
+
+    /**
+     * 배치를 전달하고, 실패한 Outbox ID → 실패 원인을 반환한다. (전부 성공이면 빈 Map)
+     */
+    Map<Long, String> dispatch(List<NoteAnalysisOutbox> batch);
+}
@@ -0,0 +1,159 @@
+package com.sg25.spring_server.global.infra.outbox;
+
+import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
+import com.sg25.spring_server.domain.model.enums.OutboxStatus;
+import com.sg25.spring_server.domain.note.domain.entity.NoteAnalysisOutbox;
+import com.sg25.spring_server.domain.note.domain.repository.NoteAnalysisOutboxRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.domain.note.event.NoteAnalysisRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * OCR 분석 요청 Outbox Relay
+ * 커밋된 Outbox 레코드를 배치 단위로 읽어 분석 서버로 전달하고, 결과(성공/재시도/실패)를 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteAnalysisOutboxRelay {
+
+    private final NoteAnalysisOutboxRepository outboxRepository;
+    private final NoteImageRepository noteImageRepository;
+    private final NoteAnalysisDispatcher dispatcher;
+
+    @Value("${note.analyze.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${note.analyze.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${note.analyze.outbox.base-backoff:5s}")
+    private Duration baseBackoff;
+
+    // 선점 임대 시간: 전달(요청 타임아웃 + confirm 대기)보다 길어야 중복 전달이 없음
+    @Value("${note.analyze.outbox.claim-lease:60s}")
+    private Duration claimLease;
+
+    // 전달 완료 행 보관 기간 (이후 purge-cron 주기에 배치 삭제)
+    @Value("${note.analyze.outbox.sent-retention:7d}")
+    private Duration sentRetention;
+
+    @Value("${note.analyze.outbox.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    // 동시에 하나의 drain만 수행하고, 수행 중 들어온 깨우기 신호는 한 번 더 돌도록 병합
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean(false);
+
+    // 노트 생성 트랜잭션 커밋 직후 Relay 깨우기 (요청 스레드에서는 실행하지 않음)
+    @Async("outboxRelayExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAnalysisRequested(NoteAnalysisRequestedEvent event) {
+        log.debug("📨 Outbox 깨우기: noteId = {}, images = {}", event.noteId(), event.imageCount());
+        drain();
+    }
+
+    // 유실된 깨우기 신호, 재시도 대상 처리를 위한 주기 폴링
+    @Scheduled(fixedDelayString = "${note.analyze.outbox.poll-interval:5000}")
+    public void poll() {
+        drain();
+    }
+
+    public void drain() {
+        wakeUpRequested.set(true);
+        while (wakeUpRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                wakeUpRequested.set(false);
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (relayed == batchSize);
+            } catch (Exception e) {
+                log.error("❌ Outbox Relay 처리 실패", e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    // 보관 기간이 지난 SENT 행 정리 (FAILED 행은 원인 확인용으로 남김)
+    @Scheduled(cron = "${note.analyze.outbox.purge-cron:0 45 4 * * *}")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minus(sentRetention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = outboxRepository.deleteSentBefore(before, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (total > 0) {
+            log.info("🧹 전달 완료 Outbox 정리: {}건 삭제", total);
+        }
+    }
+
+    private int relayBatch() {
+        // 1. 다른 인스턴스와 겹치지 않게 배치 선점 후, 선점한 행만 조회
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = outboxRepository.claimBatch(claimToken, now, now.plus(claimLease), batchSize);
+        if (claimed == 0) {
+            return 0;
+        }
+        List<NoteAnalysisOutbox> batch =
+                outboxRepository.findByClaimTokenAndStatusOrderByIdAsc(claimToken, OutboxStatus.PENDING);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 전달 결과는 선점 토큰 조건부 UPDATE로만 기록
+        // (엔티티 병합은 그 사이 노트 삭제로 지워진 행을 다시 INSERT 하므로 쓰지 않음)
+        Map<Long, String> failures = dispatcher.dispatch(batch);
+        List<Long> sent = batch.stream()
+                .map(NoteAnalysisOutbox::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        if (!sent.isEmpty()) {
+            outboxRepository.markSent(sent, claimToken, LocalDateTime.now());
+        }
+
+        List<Long> abandonedImageIds = new ArrayList<>();
+        for (NoteAnalysisOutbox outbox : batch) {
+            String error = failures.get(outbox.getId());
+            if (error == null) {
+                continue;
+            }
+            log.warn("⚠️ 분석 요청 전달 실패 (noteImageId: {}, attempt: {}): {}",
+                    outbox.getNoteImageId(), outbox.getAttempts() + 1, error);
+            outbox.markAttemptFailed(error, maxAttempts, baseBackoff);
+            int updated = outboxRepository.markAttemptFailed(outbox.getId(), claimToken, outbox.getStatus(),
+                    outbox.getAttempts(), outbox.getNextAttemptAt(), outbox.getLastError());
+            if (updated == 1 && outbox.getStatus() == OutboxStatus.FAILED) {
+                abandonedImageIds.add(outbox.getNoteImageId());
+            }
+        }
+
+        // 3. 재시도 한도를 넘긴 이미지는 UPDATE 한 번으로 ERROR 표시
+        if (!abandonedImageIds.isEmpty()) {
+            noteImageRepository.updateStatus(abandonedImageIds, NoteImageStatus.ERROR);
+        }
+
+        log.info("📤 Outbox Relay 배치 처리 완료: {}건", batch.size());
+        return batch.size();
+    }
+}
@@ -1,17 +1,36 @@
 package com.sg25.spring_server.global.infra.rabbitMQ;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
 import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
 import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageJdbcRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRecognitionUpdate;
 import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
-import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
-import com.sg25.spring_server.global.exception.GeneralException;
+import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import com.sg25.spring_server.domain.note.event.NoteChangedEvent;
+import com.sg25.spring_server.domain.note.event.NoteImageStatusChangedEvent;
 import com.sg25.spring_server.global.infra.gpt.GptCorrectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -20,39 +39,152 @@ public class NoteAnalysisResultListener {
 
     public static final String RESULT_QUEUE = "note.analyze.result";
     private final NoteImageRepository noteImageRepository;
+    private final NoteImageJdbcRepository noteImageJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final GptCorrectionService gptCorrectionService;
 
-    @RabbitListener(queues = RESULT_QUEUE)
-    public void receiveAnalysisResult(Map<String, Object> message) {
-        Long noteImageId = null;
-        try {
-            noteImageId = Long.valueOf(message.get("noteImageId").toString());
-            String recognizedText = message.get("recognizedText").toString();
+    // 배치 하나에서 동시에 진행하는 GPT 보정 수
+    @Value("${note.analyze.result.correction-concurrency:32}")
+    private int correctionConcurrency;
 
-            NoteImage noteImage = noteImageRepository.findById(noteImageId)
-                    .orElseThrow(() -> new GeneralException(ErrorStatus._NOT_FOUND));
+    /**
+     * 분석 결과 배치 수신
+     * 배치에 포함된 NoteImage를 IN 쿼리 한 번으로 확인하고, GPT 보정은 논블로킹으로 진행한다.
+     * 리스너 스레드는 보정을 기다리지 않고 바로 반환하며, 상태/텍스트가 JDBC batch update로 반영된 뒤에만 메시지를 ack 한다.
+     * (전체 동시 처리량은 컨테이너 prefetch = note.analyze.result.max-in-flight 로 제한)
+     */
+    @RabbitListener(queues = RESULT_QUEUE, containerFactory = "resultBatchListenerContainerFactory")
+    public void receiveAnalysisResults(List<Message> messages, Channel channel) {
+        // 1. 메시지 파싱 (Flask는 content-type 없이 JSON을 보내므로 직접 파싱)
+        List<ReceivedResult> results = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                results.add(parse(message, deliveryTag));
+            } catch (Exception e) {
+                log.error("❌ MQ 분석 결과 파싱 실패: {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+                reject(channel, deliveryTag);
+            }
+        }
 
-            // GPT 보정
-            log.info("GPT 보정 시도: {}", recognizedText);
-            String correctedText = gptCorrectionService.correctRecognizedText(recognizedText);
+        // 2. 대상 NoteImage 일괄 조회 (IN 쿼리 1회)
+        // 조회 실패 시 배치 전체를 재전달 (수동 ack라 처리하지 않으면 prefetch 슬롯을 계속 점유)
+        Map<Long, NoteImage> images;
+        try {
+            images = noteImageRepository.findAllById(
+                            results.stream().map(ReceivedResult::noteImageId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(NoteImage::getId, Function.identity()));
+        } catch (Exception e) {
+            log.error("❌ MQ 분석 결과 대상 조회 실패: {}건 재전달", results.size(), e);
+            results.forEach(result -> requeue(channel, result.deliveryTag()));
+            return;
+        }
 
-            // 분석 성공 처리
-            log.info("GPT 보정 성공: {}", correctedText);
-            noteImage.updateRecognizedText(correctedText, NoteImageStatus.DONE);
-            noteImageRepository.save(noteImage);
+        List<ReceivedResult> targets = new ArrayList<>(results.size());
+        for (ReceivedResult result : results) {
+            if (images.containsKey(result.noteImageId())) {
+                targets.add(result);
+            } else {
+                log.warn("⚠️ 존재하지 않는 noteImageId: {}", result.noteImageId());
+                ack(channel, result.deliveryTag());
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
 
-            log.info("✅ MQ 분석 결과 저장 완료 (noteImageId: {}, recognizedText: {})", noteImageId, recognizedText);
-        } catch (Exception e) {
-            log.error("❌ MQ 분석 결과 처리 실패: {}", message, e);
+        // 3. GPT 보정(논블로킹, 동시성 제한) → 4. 일괄 반영 → 5. ack
+        Flux.fromIterable(targets)
+                .flatMap(this::toUpdate, correctionConcurrency)
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(noteImageJdbcRepository::batchUpdateRecognition)
+                .subscribe(
+                        updates -> {
+                            publishNoteChanged(updates, images);
+                            targets.forEach(result -> ack(channel, result.deliveryTag()));
+                            log.info("✅ MQ 분석 결과 저장 완료: {}건 (수신 {}건)", updates.size(), messages.size());
+                        },
+                        error -> {
+                            // DB 반영 실패: 재전달 받아 다시 처리
+                            log.error("❌ MQ 분석 결과 저장 실패: {}건 재전달", targets.size(), error);
+                            targets.forEach(result -> requeue(channel, result.deliveryTag()));
+                        });
+    }
+
+    private Mono<NoteImageRecognitionUpdate> toUpdate(ReceivedResult result) {
+        // 분석 실패 결과는 ERROR로 반영
+        if (result.recognizedText() == null) {
+            log.error("❌ MQ 분석 실패 결과 (noteImageId: {})", result.noteImageId());
+            return Mono.just(new NoteImageRecognitionUpdate(result.noteImageId(), null, NoteImageStatus.ERROR));
+        }
 
-            // 실패한 경우 NoteStatus를 ERROR로 업데이트
-            if (noteImageId != null) {
-                noteImageRepository.findById(noteImageId).ifPresent(noteImage -> {
-                    noteImage.updateRecognizedText(null, NoteImageStatus.ERROR);
-                    noteImageRepository.save(noteImage);
+        // GPT 보정 (실패 시 원문으로 대체됨)
+        log.info("GPT 보정 시도: {}", result.recognizedText());
+        return gptCorrectionService.correctRecognizedText(result.recognizedText())
+                .map(correctedText -> new NoteImageRecognitionUpdate(result.noteImageId(), correctedText, NoteImageStatus.DONE))
+                .onErrorResume(e -> {
+                    log.error("❌ MQ 분석 결과 처리 실패 (noteImageId: {})", result.noteImageId(), e);
+                    return Mono.just(new NoteImageRecognitionUpdate(result.noteImageId(), null, NoteImageStatus.ERROR));
                 });
-            }
+    }
+
+    // 반영된 이미지를 노트별로 묶어 캐시 무효화 + 상태 구독자 알림
+    private void publishNoteChanged(List<NoteImageRecognitionUpdate> updates, Map<Long, NoteImage> images) {
+        Map<Long, List<NoteResponseDTO.NoteImageStatusResponse>> byNote = updates.stream()
+                .collect(Collectors.groupingBy(
+                        update -> images.get(update.noteImageId()).getNote().getId(),
+                        Collectors.mapping(update -> NoteResponseDTO.NoteImageStatusResponse.builder()
+                                .imageId(update.noteImageId())
+                                .noteImageStatus(update.status())
+                                .analysisResult(update.recognizedText())
+                                .build(), Collectors.toList())));
+
+        byNote.forEach((noteId, statuses) -> {
+            eventPublisher.publishEvent(NoteChangedEvent.detailOnly(noteId));
+            eventPublisher.publishEvent(new NoteImageStatusChangedEvent(noteId, statuses));
+        });
+    }
+
+    private ReceivedResult parse(Message message, long deliveryTag) throws IOException {
+        JsonNode root = objectMapper.readTree(message.getBody());
+        Long noteImageId = Long.valueOf(root.path("noteImageId").asText());
+        JsonNode text = root.path("recognizedText");
+        boolean failed = "error".equals(root.path("status").asText(null));
+
+        return new ReceivedResult(deliveryTag, noteImageId,
+                failed || text.isNull() || text.isMissingNode() ? null : text.asText());
+    }
+
+    // ack/nack은 boundedElastic에서 캡처한 채널로 호출되므로, 채널이 이미 닫혀도(AlreadyClosedException ⊂ ShutdownSignalException)
+    // 예외를 삼켜 리액티브 체인이 끊기지 않게 한다. 닫힌 채널의 미확인 메시지는 브로커가 재전달한다.
+    private void ack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException | ShutdownSignalException e) {
+            log.error("❌ MQ ack 실패: deliveryTag = {}", deliveryTag, e);
+        }
+    }
+
+    private void reject(Channel channel, long deliveryTag) {
+        try {
+            channel.basicNack(deliveryTag, false, false);
+        } catch (IOException | ShutdownSignalException e) {
+            log.error("❌ MQ nack 실패: deliveryTag = {}", deliveryTag, e);
+        }
+    }
+
+    private void requeue(Channel channel, long deliveryTag) {
+        try {
+            channel.basicNack(deliveryTag, false, true);
+        } catch (IOException | ShutdownSignalException e) {
+            log.error("❌ MQ nack 실패: deliveryTag = {}", deliveryTag, e);
         }
     }
+
+    private record ReceivedResult(long deliveryTag, Long noteImageId, String recognizedText) {
+    }
 }
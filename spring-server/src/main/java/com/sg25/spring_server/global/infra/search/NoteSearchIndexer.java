@@ -0,0 +1,32 @@
+package com.sg25.spring_server.global.infra.search;
+
+import com.sg25.spring_server.domain.note.event.NoteImageStatusChangedEvent;
+import com.sg25.spring_server.domain.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteSearchIndexer {
+
+    private final SearchService searchService;
+
+    /**
+     * 인식 결과가 반영되면 해당 이미지들만 증분 색인 (결과 리스너/요청 스레드와 분리된 실행기에서)
+     * 색인 실패는 검색 품질에만 영향을 주므로 로그만 남긴다.
+     */
+    @Async("searchIndexExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(NoteImageStatusChangedEvent event) {
+        try {
+            searchService.indexImages(event.noteId(), event.images());
+        } catch (Exception e) {
+            log.error("❌ 검색 색인 실패 (noteId: {})", event.noteId(), e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sg25.spring_server.global.infra.search;
+
+import com.sg25.spring_server.domain.model.enums.NoteImageStatus;
+import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.domain.note.dto.NoteResponseDTO;
+import com.sg25.spring_server.domain.search.service.SearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인 재구축 (기동 시 1회, note.search.reindex.enabled=true 일 때만 활성화)
+ * 인식 완료된 이미지를 노트 단위로 다시 토큰화해 색인을 교체한다. (토크나이저 변경 또는 색인 도입 이전 데이터 반영)
+ * 노트마다 별도 트랜잭션으로 처리하므로 중간에 멈춰도 다시 실행하면 처음부터 덮어쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "note.search.reindex.enabled", havingValue = "true")
+public class SearchReindexRunner implements ApplicationRunner {
+
+    private final NoteImageRepository noteImageRepository;
+    private final SearchService searchService;
+    private final int batchSize;
+
+    public SearchReindexRunner(
+            NoteImageRepository noteImageRepository,
+            SearchService searchService,
+            @Value("${note.search.reindex.batch-size:100}") int batchSize) {
+        this.noteImageRepository = noteImageRepository;
+        this.searchService = searchService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int indexed = 0;
+        int failed = 0;
+        long after = 0L;
+
+        List<Long> noteIds;
+        while (!(noteIds = noteImageRepository.findNoteIdsByStatusAfter(
+                NoteImageStatus.DONE, after, PageRequest.of(0, batchSize))).isEmpty()) {
+
+            // 1. 배치 내 노트들의 인식 완료 이미지를 한 번에 조회
+            Map<Long, List<NoteResponseDTO.NoteImageStatusResponse>> imagesByNote = noteImageRepository
+                    .findAllByNoteIdsAndStatus(noteIds, NoteImageStatus.DONE).stream()
+                    .collect(Collectors.groupingBy(image -> image.getNote().getId(),
+                            Collectors.mapping(SearchReindexRunner::toStatusResponse, Collectors.toList())));
+
+            // 2. 노트 단위로 색인 교체 (실패한 노트는 건너뛰고 계속)
+            for (Long noteId : noteIds) {
+                try {
+                    searchService.indexImages(noteId, imagesByNote.getOrDefault(noteId, List.of()));
+                    indexed++;
+                } catch (Exception e) {
+                    log.warn("⚠️ 재색인 실패 (noteId: {})", noteId, e);
+                    failed++;
+                }
+            }
+            after = noteIds.get(noteIds.size() - 1);
+        }
+
+        log.info("🔎 검색 재색인 완료: 노트 {}건, 실패 {}건", indexed, failed);
+    }
+
+    private static NoteResponseDTO.NoteImageStatusResponse toStatusResponse(NoteImage image) {
+        return NoteResponseDTO.NoteImageStatusResponse.builder()
+                .imageId(image.getId())
+                .noteImageStatus(image.getNoteImageStatus())
+                .analysisResult(image.getRecognizedText())
+                .build();
+    }
+}
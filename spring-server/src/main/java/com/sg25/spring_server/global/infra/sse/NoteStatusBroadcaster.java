@@ -0,0 +1,43 @@
+package com.sg25.spring_server.global.infra.sse;
+
+import com.sg25.spring_server.domain.note.event.NoteImageStatusChangedEvent;
+import com.sg25.spring_server.global.config.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노트 이미지 상태 변경을 모든 Spring 인스턴스의 SSE 구독자에게 전달
+ * 결과를 반영한 인스턴스와 구독자가 연결된 인스턴스가 다를 수 있으므로 fanout exchange로 브로드캐스트하고,
+ * 각 인스턴스는 자기 전용 임시 큐에서 받아 로컬 레지스트리로 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteStatusBroadcaster {
+
+    public static final String STATUS_EVENT = "status";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final NoteStatusEmitterRegistry emitterRegistry;
+
+    @EventListener
+    public void onStatusChanged(NoteImageStatusChangedEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.NOTE_STATUS_EXCHANGE, "", event);
+        } catch (AmqpException e) {
+            // 브로커 장애 시 최소한 이 인스턴스의 구독자에게는 전달
+            log.warn("⚠️ 상태 브로드캐스트 실패, 로컬 구독자에게만 전달 (noteId: {})", event.noteId(), e);
+            emitterRegistry.send(event.noteId(), STATUS_EVENT, event.images());
+        }
+    }
+
+    @RabbitListener(queues = "#{noteStatusQueue.name}")
+    public void receive(NoteImageStatusChangedEvent event) {
+        emitterRegistry.send(event.noteId(), STATUS_EVENT, event.images());
+    }
+}
@@ -0,0 +1,100 @@
+package com.sg25.spring_server.global.infra.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노트별 상태 스트림(SSE) 구독자 레지스트리
+ * SseEmitter는 서블릿 비동기 요청이라 대기 중에는 요청 스레드를 점유하지 않는다.
+ * 연결당 비용은 소켓 + emitter 객체뿐이므로 유휴 연결 수만 개를 유지할 수 있다 (Tomcat max-connections로 상한).
+ */
+@Slf4j
+@Component
+public class NoteStatusEmitterRegistry {
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Duration timeout;
+
+    public NoteStatusEmitterRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${note.status.stream.timeout:30m}") Duration timeout) {
+        this.timeout = timeout;
+        Gauge.builder("note.status.stream.connections", connections, AtomicInteger::get)
+                .description("열려 있는 노트 상태 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록 (완료/타임아웃/오류 시 자동 해제)
+     */
+    public SseEmitter register(Long noteId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        emitters.compute(noteId, (key, set) -> {
+            Set<SseEmitter> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        connections.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(noteId, emitter));
+        emitter.onTimeout(() -> remove(noteId, emitter));
+        emitter.onError(e -> remove(noteId, emitter));
+        return emitter;
+    }
+
+    public void remove(Long noteId, SseEmitter emitter) {
+        emitters.computeIfPresent(noteId, (key, set) -> {
+            if (set.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 해당 노트를 구독 중인 이 인스턴스의 모든 연결에 이벤트 전송
+     */
+    public void send(Long noteId, String eventName, Object data) {
+        Set<SseEmitter> targets = emitters.get(noteId);
+        if (targets == null) {
+            return;
+        }
+        for (SseEmitter emitter : targets) {
+            send(noteId, emitter, SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    public void send(Long noteId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊김: 정리만 하고 넘어감
+            log.debug("SSE 전송 실패, 구독 해제 (noteId: {}): {}", noteId, e.getMessage());
+            remove(noteId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 주석 라인 전송 (끊긴 연결도 여기서 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${note.status.stream.heartbeat-interval:20000}")
+    public void heartbeat() {
+        emitters.forEach((noteId, set) ->
+                set.forEach(emitter -> send(noteId, emitter, SseEmitter.event().comment("ping"))));
+    }
+}
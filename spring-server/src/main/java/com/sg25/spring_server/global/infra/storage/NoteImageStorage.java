@@ -0,0 +1,102 @@
+package com.sg25.spring_server.global.infra.storage;
+
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 노트 이미지 저장
+ * 업로드 파트(이미 staging 디렉터리에 스풀됨)를 transferTo로 옮기고(rename), 읽기만으로 크기와 SHA-256을 계산한 뒤
+ * 내용 해시로 만든 키로 BlobStore에 넣는다. (같은 내용은 항상 같은 키 → 저장 공간 중복 없음)
+ * 로컬 저장소면 요청 수신 시 Tomcat이 쓴 한 번이 유일한 디스크 쓰기이고, 이미 있는 내용이면 저장소에 다시 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteImageStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,5}");
+
+    private final BlobStore blobStore;
+
+    public StoredImage store(MultipartFile file) throws IOException {
+        Path temp = blobStore.stagingDirectory().resolve("note-upload-" + UUID.randomUUID() + ".part");
+        try {
+            // 1. 같은 파일 시스템의 스풀 파일이면 rename (메모리 파트/MockMultipartFile은 한 번 씀)
+            file.transferTo(temp.toFile());
+
+            // 2. 크기 + 내용 해시 (읽기만)
+            MessageDigest digest = sha256();
+            long size = digest(temp, digest);
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+
+            String key = contentKey(contentHash, file.getOriginalFilename());
+            String contentType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+            // 3. 같은 내용이 이미 있으면 다시 쓰지 않음 (수정 시각만 갱신)
+            if (!blobStore.putIfAbsent(key, temp, contentType)) {
+                log.debug("♻️ 동일 내용 이미지 재사용: {}", key);
+            }
+
+            return new StoredImage(key, size, contentHash);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 내용 해시 기반 키: 앞 2글자/다음 2글자 디렉터리 fan-out + 원본 확장자
+     * 예: 3fa2...e1 + "a.PNG" → "3f/a2/3fa2...e1.png"
+     */
+    public static String contentKey(String contentHash, String originalFilename) {
+        String key = contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+        if (originalFilename != null && originalFilename.lastIndexOf('.') >= 0) {
+            String extension = originalFilename.substring(originalFilename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            if (EXTENSION.matcher(extension).matches()) {
+                key += "." + extension;
+            }
+        }
+        return key;
+    }
+
+    private long digest(Path source, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long size = 0;
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                size += read;
+                buffer.clear();
+            }
+        }
+        return size;
+    }
+
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
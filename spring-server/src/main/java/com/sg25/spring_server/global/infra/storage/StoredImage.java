@@ -0,0 +1,7 @@
+package com.sg25.spring_server.global.infra.storage;
+
+/**
+ * 저장된 이미지 정보 (key: BlobStore 키 = NoteImage.storedPath)
+ */
+public record StoredImage(String key, long size, String contentHash) {
+}
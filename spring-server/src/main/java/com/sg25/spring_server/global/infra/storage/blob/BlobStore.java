@@ -0,0 +1,69 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 원본 저장소 SPI
+ * 키는 '/' 구분 상대 경로(예: "3f/a2/3fa2...e1.jpg")이며 NoteImage.storedPath에 그대로 저장된다.
+ * 구현: 로컬 디스크(LocalBlobStore), S3 호환 객체 저장소(S3BlobStore)
+ */
+public interface BlobStore {
+
+    BlobStoreType type();
+
+    /**
+     * source 파일을 key로 저장한다. source는 이동되거나 업로드 후 삭제된다 (호출 측에서 다시 쓰지 않음).
+     * 같은 키가 이미 있으면 덮어쓰며, 읽는 쪽은 항상 완전한 이전 또는 새 내용만 본다.
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 같은 키가 없을 때만 저장한다. (내용 해시 키라 같은 키면 같은 내용)
+     * 이미 있으면 업로드하지 않고 수정 시각만 갱신해, GC 유예 기간이 새 참조 기준으로 다시 시작되게 한다.
+     * 어느 경우든 source는 소비된다.
+     * @return 새로 저장했으면 true
+     */
+    boolean putIfAbsent(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * put에 넘길 임시 파일을 만들 디렉터리
+     * 로컬은 저장소와 같은 파일 시스템이라 put이 복사 없이 rename으로 끝난다.
+     */
+    default Path stagingDirectory() {
+        return Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath();
+    }
+
+    Optional<BlobSummary> stat(String key) throws IOException;
+
+    default boolean exists(String key) throws IOException {
+        return stat(key).isPresent();
+    }
+
+    /**
+     * 읽기용 리소스 (로컬은 FileSystemResource라 파일 채널/zero-copy 전송이 가능)
+     */
+    Resource getResource(String key);
+
+    /**
+     * 삭제 (없는 키면 무시)
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * cutoff 이후 수정되지 않았을 때만 삭제 (GC용)
+     * 수정 시각 확인 이후 putIfAbsent가 같은 키를 다시 참조(수정 시각 갱신)했다면 지우지 않는다.
+     * @return 삭제했으면 true, 없거나 최근에 수정되어 남겨 두었으면 false
+     */
+    boolean deleteIfUnmodifiedSince(String key, Instant cutoff) throws IOException;
+
+    /**
+     * 전체 키 순회 (스트리밍, 사용 후 close 필요)
+     */
+    Stream<BlobSummary> list() throws IOException;
+}
@@ -0,0 +1,67 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * 설정(note.storage.*)으로 저장소 구현 생성
+ * 운영 저장소 빈 외에 마이그레이션 시 원본 저장소를 만들 때도 사용한다.
+ */
+@Component
+public class BlobStoreFactory {
+
+    @Value("${note.storage.local.root:data/noteImages}")
+    private String localRoot;
+
+    @Value("${note.storage.s3.endpoint:}")
+    private String s3Endpoint;              // 비우면 AWS 기본 엔드포인트, MinIO는 http://minio:9000
+
+    @Value("${note.storage.s3.region:ap-northeast-2}")
+    private String s3Region;
+
+    @Value("${note.storage.s3.bucket:note-images}")
+    private String s3Bucket;
+
+    @Value("${note.storage.s3.access-key:}")
+    private String s3AccessKey;
+
+    @Value("${note.storage.s3.secret-key:}")
+    private String s3SecretKey;
+
+    @Value("${note.storage.s3.path-style-access:false}")
+    private boolean s3PathStyleAccess;      // MinIO는 true
+
+    public BlobStore create(BlobStoreType type) {
+        return switch (type) {
+            case LOCAL -> new LocalBlobStore(Paths.get(localRoot));
+            case S3 -> new S3BlobStore(s3Client(), s3Bucket);
+        };
+    }
+
+    private S3Client s3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(s3Region))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(s3PathStyleAccess)
+                        .build());
+
+        if (!s3Endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(s3Endpoint));
+        }
+        // 키를 비우면 기본 자격 증명 체인(환경 변수, 인스턴스 프로파일 등) 사용
+        if (!s3AccessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(s3AccessKey, s3SecretKey)));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+public enum BlobStoreType {
+    LOCAL,      // 로컬 디스크 (해시 fan-out 디렉터리)
+    S3          // S3 호환 객체 저장소 (AWS S3, MinIO)
+}
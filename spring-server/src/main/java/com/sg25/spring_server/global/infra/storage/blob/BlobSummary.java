@@ -0,0 +1,6 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+import java.time.Instant;
+
+public record BlobSummary(String key, long size, Instant lastModified) {
+}
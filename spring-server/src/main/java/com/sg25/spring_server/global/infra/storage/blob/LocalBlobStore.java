@@ -0,0 +1,169 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 저장소
+ * 키의 앞 두 단계(해시 앞 4글자)가 디렉터리가 되므로 디렉터리당 파일 수가 전체의 1/65536 수준으로 유지된다.
+ * 쓰기는 같은 디렉터리의 임시 파일 → ATOMIC_MOVE로 교체하여, 읽는 쪽이 쓰다 만 파일을 보지 않는다.
+ * 업로드 임시 파일은 루트 아래 .staging에 두어 put이 같은 파일 시스템 안의 rename이 되게 한다.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String STAGING_DIR = ".staging";
+
+    private final Path root;
+    private final Path staging;
+
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.staging = this.root.resolve(STAGING_DIR);
+        try {
+            Files.createDirectories(this.staging);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 루트를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public BlobStoreType type() {
+        return BlobStoreType.LOCAL;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 다른 파일 시스템의 임시 파일: 대상 디렉터리에 복사한 뒤 같은 파일 시스템 안에서 원자적 교체
+            Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+            try {
+                Files.copy(source, temp);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+                Files.deleteIfExists(source);
+            }
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            try {
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                Files.deleteIfExists(source);
+                return false;
+            } catch (NoSuchFileException e) {
+                // 확인 직후 GC가 회수함 → 새로 저장
+            }
+        }
+        put(key, source, contentType);
+        return true;
+    }
+
+    /**
+     * 회수 대상을 먼저 staging으로 옮긴(rename) 뒤 수정 시각을 확인한다.
+     * - 옮기기 전에 putIfAbsent가 시각을 갱신했다면 옮긴 파일에서 보이므로 되돌린다.
+     * - 옮긴 뒤의 갱신은 NoSuchFileException이 되어 putIfAbsent가 새로 저장한다.
+     * 따라서 확인과 삭제 사이에 다시 참조된 파일을 지우는 일이 없다.
+     */
+    @Override
+    public boolean deleteIfUnmodifiedSince(String key, Instant cutoff) throws IOException {
+        Path target = resolve(key);
+        Path trash = staging.resolve("reclaim-" + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.move(target, trash, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        if (Files.getLastModifiedTime(trash).toInstant().isAfter(cutoff)) {
+            try {
+                Files.move(trash, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 그 사이 같은 내용이 새로 저장됨
+                Files.deleteIfExists(trash);
+            }
+            return false;
+        }
+        Files.delete(trash);
+        return true;
+    }
+
+    @Override
+    public Path stagingDirectory() {
+        return staging;
+    }
+
+    @Override
+    public Optional<BlobSummary> stat(String key) throws IOException {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new BlobSummary(key, attrs.size(), attrs.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Resource getResource(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Stream<BlobSummary> list() throws IOException {
+        return Files.walk(root)
+                .filter(path -> !path.startsWith(staging))
+                .filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                .flatMap(path -> {
+                    try {
+                        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                        if (!attrs.isRegularFile()) {
+                            return Stream.empty();
+                        }
+                        return Stream.of(new BlobSummary(toKey(path), attrs.size(), attrs.lastModifiedTime().toInstant()));
+                    } catch (IOException e) {
+                        log.warn("⚠️ 파일 속성 확인 실패: {}", path, e);
+                        return Stream.empty();
+                    }
+                });
+    }
+
+    // 키 → 경로 (루트 밖으로 나가는 키는 거부)
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(staging)) {
+            throw new IllegalArgumentException("잘못된 저장소 키: " + key);
+        }
+        return path;
+    }
+
+    private String toKey(Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+}
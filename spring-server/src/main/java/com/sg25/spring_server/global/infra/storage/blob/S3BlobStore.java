@@ -0,0 +1,205 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * S3 호환 객체 저장소 (AWS S3, 로컬 개발용 MinIO)
+ * 단일 PUT은 원자적이므로 읽는 쪽은 항상 완전한 객체만 본다.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore, AutoCloseable {
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3BlobStore(S3Client s3Client, String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        createBucketIfMissing();
+    }
+
+    @Override
+    public BlobStoreType type() {
+        return BlobStoreType.S3;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Path source, String contentType) throws IOException {
+        if (!exists(key)) {
+            put(key, source, contentType);
+            return true;
+        }
+
+        try {
+            // 자기 자신으로 복사(메타데이터 교체)하면 본문 전송 없이 LastModified만 갱신된다
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(key)
+                    .destinationBucket(bucket)
+                    .destinationKey(key)
+                    .contentType(contentType)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            // 확인 직후 GC가 회수함 → 새로 업로드
+            put(key, source, contentType);
+            return true;
+        } catch (SdkException e) {
+            Files.deleteIfExists(source);
+            throw new IOException("S3 수정 시각 갱신 실패: " + key, e);
+        }
+        Files.deleteIfExists(source);
+        return false;
+    }
+
+    @Override
+    public Optional<BlobSummary> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new BlobSummary(key, head.contentLength(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 조회 실패: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Resource getResource(String key) {
+        return new S3ObjectResource(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("S3 삭제 실패: " + key, e);
+        }
+    }
+
+    /**
+     * S3는 조건부 삭제가 없어 HEAD 직후 DELETE로 처리한다.
+     * 두 호출 사이(수 ms)에 수정 시각이 갱신되는 경우만 남으며, 회수기는 유예 기간이 지난 파일만 대상으로 삼는다.
+     */
+    @Override
+    public boolean deleteIfUnmodifiedSince(String key, Instant cutoff) throws IOException {
+        Optional<BlobSummary> blob = stat(key);
+        if (blob.isEmpty() || blob.get().lastModified().isAfter(cutoff)) {
+            return false;
+        }
+        delete(key);
+        return true;
+    }
+
+    @Override
+    public Stream<BlobSummary> list() {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(bucket).build())
+                .contents()
+                .stream()
+                .map(object -> new BlobSummary(object.key(), object.size(), object.lastModified()));
+    }
+
+    @Override
+    public void close() {
+        s3Client.close();
+    }
+
+    private void createBucketIfMissing() {
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder().bucket(bucket).build());
+        } catch (NoSuchBucketException e) {
+            s3Client.createBucket(CreateBucketRequest.builder().bucket(bucket).build());
+            log.info("🪣 S3 버킷 생성: {}", bucket);
+        }
+    }
+
+    /**
+     * S3 객체를 Spring Resource로 노출 (읽을 때마다 GET 스트림을 연다)
+     */
+    private class S3ObjectResource extends AbstractResource {
+
+        private final String key;
+
+        private S3ObjectResource(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+            } catch (NoSuchKeyException e) {
+                throw new FileNotFoundException("S3 객체 없음: " + key);
+            } catch (SdkException e) {
+                throw new IOException("S3 다운로드 실패: " + key, e);
+            }
+        }
+
+        @Override
+        public boolean exists() {
+            try {
+                return stat(key).isPresent();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return stat(key).orElseThrow(() -> new FileNotFoundException("S3 객체 없음: " + key)).size();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return stat(key).orElseThrow(() -> new FileNotFoundException("S3 객체 없음: " + key))
+                    .lastModified().toEpochMilli();
+        }
+
+        @Override
+        public String getFilename() {
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getDescription() {
+            return "S3 object [" + bucket + "/" + key + "]";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sg25.spring_server.global.infra.storage.derivative;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 원본 이미지에서 파생되는 축소본 종류
+ * 키는 원본 내용 해시로만 정해지므로(예: "derived/thumb/3f/a2/3fa2...e1.jpg") DB에 따로 저장하지 않는다.
+ */
+public enum ImageDerivative {
+
+    THUMBNAIL("thumb", 320),    // 목록 카드
+    PREVIEW("preview", 1280);   // 상세 화면
+
+    public static final String PREFIX = "derived/";
+
+    private static final Pattern KEY = Pattern.compile("derived/(thumb|preview)/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.jpg");
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final String directory;
+    private final int maxDimension;     // 긴 변 최대 픽셀
+
+    ImageDerivative(String directory, int maxDimension) {
+        this.directory = directory;
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public String key(String contentHash) {
+        return PREFIX + directory + "/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4)
+                + "/" + contentHash + ".jpg";
+    }
+
+    /**
+     * 응답 DTO용 URL (해시가 없는 이전 데이터는 null → 클라이언트는 원본 URL 사용)
+     */
+    public String url(String contentHash) {
+        if (contentHash == null || !CONTENT_HASH.matcher(contentHash).matches()) {
+            return null;
+        }
+        return "/noteImages/" + key(contentHash);
+    }
+
+    public static boolean isDerivedKey(String key) {
+        return key.startsWith(PREFIX);
+    }
+
+    /**
+     * 파생 키 → 원본 내용 해시
+     */
+    public static Optional<String> sourceHashOf(String key) {
+        Matcher matcher = KEY.matcher(key);
+        return matcher.matches() ? Optional.of(matcher.group(2)) : Optional.empty();
+    }
+}
@@ -0,0 +1,283 @@
+package com.sg25.spring_server.global.infra.storage.derivative;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.domain.note.event.NoteImagesStoredEvent;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 썸네일/미리보기 생성기
+ * - 업로드: 커밋 이후 전용 실행기(imageDerivativeExecutor)에서 생성
+ * - 기능 도입 이전 이미지: 파생본 요청이 처음 들어올 때 같은 실행기에 생성 예약 (그동안은 원본으로 대체)
+ * 원본은 가장 큰 파생본의 2배 해상도까지만 서브샘플링해서 디코딩하고, 미리보기 → 썸네일 순으로 단계적으로 줄인다.
+ * 출력은 JPEG (JDK ImageIO에 WebP 인코더가 없음).
+ */
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final int EXIF_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final BlobStore blobStore;
+    private final NoteImageRepository noteImageRepository;
+    private final TaskExecutor executor;
+
+    // 동시에 같은 원본을 처리하지 않도록 (업로드 직후 요청과 지연 생성이 겹칠 때)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // 디코딩할 수 없는 원본(HEIC 등)은 일정 시간 재시도하지 않음
+    private final Cache<String, Boolean> unsupported = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    private final Counter generated;
+    private final Counter failed;
+
+    public ImageDerivativeGenerator(
+            BlobStore blobStore,
+            NoteImageRepository noteImageRepository,
+            @Qualifier("imageDerivativeExecutor") TaskExecutor executor,
+            MeterRegistry meterRegistry) {
+        this.blobStore = blobStore;
+        this.noteImageRepository = noteImageRepository;
+        this.executor = executor;
+        this.generated = meterRegistry.counter("note.image.derivative.generated");
+        this.failed = meterRegistry.counter("note.image.derivative.failed");
+    }
+
+    @Async("imageDerivativeExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImagesStored(NoteImagesStoredEvent event) {
+        for (Map.Entry<String, String> image : event.storedPathByHash().entrySet()) {
+            generate(image.getKey(), image.getValue());
+        }
+    }
+
+    /**
+     * 아직 파생본이 없는 이미지: 원본 키를 돌려주고(대체 응답용) 백그라운드 생성을 예약한다.
+     * 실행기 큐가 가득 차면 예약은 버려지고 다음 요청에서 다시 시도된다.
+     */
+    public Optional<String> requestLazily(String contentHash) {
+        Optional<String> sourceKey = noteImageRepository.findFirstByContentHashOrderByIdAsc(contentHash)
+                .map(NoteImage::getStoredPath);
+
+        if (sourceKey.isPresent() && unsupported.getIfPresent(contentHash) == null && !inFlight.contains(contentHash)) {
+            executor.execute(() -> generate(contentHash, sourceKey.get()));
+        }
+        return sourceKey;
+    }
+
+    private void generate(String contentHash, String sourceKey) {
+        if (!inFlight.add(contentHash)) {
+            return;
+        }
+        try {
+            if (blobStore.exists(ImageDerivative.THUMBNAIL.key(contentHash))
+                    && blobStore.exists(ImageDerivative.PREVIEW.key(contentHash))) {
+                return;
+            }
+
+            BufferedImage source = decode(blobStore.getResource(sourceKey));
+            if (source == null) {
+                unsupported.put(contentHash, Boolean.TRUE);
+                log.info("⚠️ 파생 이미지를 만들 수 없는 형식: {}", sourceKey);
+                return;
+            }
+
+            // 큰 것부터 줄여서 다음 단계의 입력으로 사용
+            BufferedImage preview = scale(source, ImageDerivative.PREVIEW.getMaxDimension());
+            store(ImageDerivative.PREVIEW.key(contentHash), preview);
+            store(ImageDerivative.THUMBNAIL.key(contentHash), scale(preview, ImageDerivative.THUMBNAIL.getMaxDimension()));
+
+            generated.increment();
+            log.info("🖼️ 파생 이미지 생성: {} ({}x{})", sourceKey, source.getWidth(), source.getHeight());
+        } catch (Exception e) {
+            failed.increment();
+            log.error("❌ 파생 이미지 생성 실패: {}", sourceKey, e);
+        } finally {
+            inFlight.remove(contentHash);
+        }
+    }
+
+    // 1. 디코딩: 가장 큰 파생본의 2배 이상 해상도만 남기도록 서브샘플링 + EXIF 회전 반영
+    private BufferedImage decode(Resource resource) throws IOException {
+        try (InputStream raw = resource.getInputStream();
+             ImageInputStream in = ImageIO.createImageInputStream(raw)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (ImageDerivative.PREVIEW.getMaxDimension() * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                return rotate(image, quarterTurns(reader.getImageMetadata(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 2. 축소: 긴 변 기준, 투명 배경은 흰색으로 (JPEG)
+    private static BufferedImage scale(BufferedImage source, int maxDimension) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // 3. JPEG(progressive) 인코딩 → 임시 파일 → BlobStore
+    private void store(String key, BufferedImage image) throws IOException {
+        Path temp = Files.createTempFile(blobStore.stagingDirectory(), "note-derivative-", ".jpg");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            blobStore.put(key, temp, "image/jpeg");
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 휴대폰 사진의 EXIF Orientation(3: 180°, 6: 90° 시계, 8: 270° 시계) → 시계 방향 90° 회전 횟수
+    private static int quarterTurns(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return 0;
+        }
+        Node markers = ((IIOMetadataNode) metadata.getAsTree("javax_imageio_jpeg_image_1.0"))
+                .getElementsByTagName("markerSequence").item(0);
+        if (markers == null) {
+            return 0;
+        }
+        for (Node node = markers.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof IIOMetadataNode marker
+                    && "unknown".equals(marker.getNodeName())
+                    && String.valueOf(EXIF_MARKER).equals(marker.getAttribute("MarkerTag"))
+                    && marker.getUserObject() instanceof byte[] exif) {
+                return switch (readOrientation(exif)) {
+                    case 3 -> 2;
+                    case 6 -> 1;
+                    case 8 -> 3;
+                    default -> 0;
+                };
+            }
+        }
+        return 0;
+    }
+
+    // APP1: "Exif\0\0" + TIFF 헤더 + IFD0에서 Orientation 태그만 찾는다
+    private static int readOrientation(byte[] exif) {
+        try {
+            if (exif.length < 14 || !"Exif".equals(new String(exif, 0, 4, StandardCharsets.US_ASCII))) {
+                return 1;
+            }
+            ByteBuffer tiff = ByteBuffer.wrap(exif, 6, exif.length - 6).slice();
+            tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+            int ifd = tiff.getInt(4);
+            int entries = tiff.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                    return tiff.getShort(entry + 8) & 0xFFFF;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 손상된 EXIF는 무시
+        }
+        return 1;
+    }
+
+    private static BufferedImage rotate(BufferedImage source, int quarterTurns) {
+        if (quarterTurns == 0) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = quarterTurns % 2 == 1;
+
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            switch (quarterTurns) {
+                case 1 -> g.translate(height, 0);
+                case 2 -> g.translate(width, height);
+                default -> g.translate(0, width);
+            }
+            g.rotate(Math.PI / 2 * quarterTurns);
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
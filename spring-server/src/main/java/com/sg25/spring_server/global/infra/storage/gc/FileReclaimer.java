@@ -0,0 +1,144 @@
+package com.sg25.spring_server.global.infra.storage.gc;
+
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import com.sg25.spring_server.global.infra.storage.blob.BlobSummary;
+import com.sg25.spring_server.global.infra.storage.derivative.ImageDerivative;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 삭제된 노트의 이미지 파일 회수기
+ * 묘비를 배치 단위로 읽어, 다른 이미지가 더 이상 참조하지 않는 파일만 BlobStore에서 지운다.
+ * 키가 내용 해시라 같은 이미지가 방금 다시 업로드됐을 수 있으므로, 유예 기간 안에 쓰인 파일은 다음 주기로 미룬다.
+ * 업로드는 참조 행을 저장하기 전에 파일 수정 시각을 갱신하므로(putIfAbsent), 삭제는 수정 시각 조건부로만 한다.
+ * 요청 경로와 분리된 스케줄러 스레드에서만 실행된다.
+ */
+@Slf4j
+@Component
+public class FileReclaimer {
+
+    private final FileTombstoneRepository tombstoneRepository;
+    private final NoteImageRepository noteImageRepository;
+    private final BlobStore blobStore;
+    private final int batchSize;
+    private final Duration baseBackoff;
+    private final Duration gracePeriod;
+
+    private final Counter reclaimedFiles;
+    private final Counter reclaimedBytes;
+
+    public FileReclaimer(
+            FileTombstoneRepository tombstoneRepository,
+            NoteImageRepository noteImageRepository,
+            BlobStore blobStore,
+            MeterRegistry meterRegistry,
+            @Value("${note.storage.gc.batch-size:200}") int batchSize,
+            @Value("${note.storage.gc.base-backoff:1m}") Duration baseBackoff,
+            @Value("${note.storage.gc.grace-period:1h}") Duration gracePeriod) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.noteImageRepository = noteImageRepository;
+        this.blobStore = blobStore;
+        this.batchSize = batchSize;
+        this.baseBackoff = baseBackoff;
+        this.gracePeriod = gracePeriod;
+        this.reclaimedFiles = meterRegistry.counter("note.storage.gc.reclaimed.files");
+        this.reclaimedBytes = meterRegistry.counter("note.storage.gc.reclaimed.bytes");
+    }
+
+    @Scheduled(fixedDelayString = "${note.storage.gc.interval:60000}")
+    public void reclaim() {
+        try {
+            int processed;
+            do {
+                processed = reclaimBatch();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("❌ 파일 회수 실패", e);
+        }
+    }
+
+    private int reclaimBatch() {
+        List<FileTombstone> batch = tombstoneRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 아직 다른 이미지가 참조 중인 파일은 지우지 않음 (묘비만 제거), 파생본은 원본 내용 해시로 확인
+        List<String> keys = batch.stream().map(FileTombstone::getStoredPath).distinct().toList();
+        Set<String> referenced = new HashSet<>(noteImageRepository.findReferencedPaths(keys));
+        List<String> derivedHashes = keys.stream()
+                .map(ImageDerivative::sourceHashOf).flatMap(Optional::stream).distinct().toList();
+        Set<String> referencedHashes = derivedHashes.isEmpty()
+                ? Set.of()
+                : new HashSet<>(noteImageRepository.findReferencedHashes(derivedHashes));
+
+        // 2. 파일 삭제 → 성공한 묘비만 제거, 최근에 쓰인 파일은 연기, 실패는 백오프 후 재시도
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        List<Long> done = new ArrayList<>();
+        List<FileTombstone> retained = new ArrayList<>();
+        long bytes = 0;
+        int files = 0;
+        for (FileTombstone tombstone : batch) {
+            boolean inUse = ImageDerivative.sourceHashOf(tombstone.getStoredPath())
+                    .map(referencedHashes::contains)
+                    .orElseGet(() -> referenced.contains(tombstone.getStoredPath()));
+            if (inUse) {
+                done.add(tombstone.getId());
+                continue;
+            }
+            try {
+                Optional<BlobSummary> blob = blobStore.stat(tombstone.getStoredPath());
+                if (blob.isPresent() && blob.get().lastModified().isAfter(cutoff)) {
+                    tombstone.postpone(gracePeriod);
+                    retained.add(tombstone);
+                    continue;
+                }
+                if (blob.isPresent()) {
+                    // 확인 이후 같은 내용이 다시 업로드(수정 시각 갱신)됐으면 지우지 않고 연기
+                    if (!blobStore.deleteIfUnmodifiedSince(tombstone.getStoredPath(), cutoff)) {
+                        tombstone.postpone(gracePeriod);
+                        retained.add(tombstone);
+                        continue;
+                    }
+                    bytes += blob.get().size();
+                    files++;
+                }
+                done.add(tombstone.getId());
+            } catch (IllegalArgumentException e) {
+                // 저장소 키 형식이 아닌 경로 (마이그레이션 이전 데이터) → BlobStoreMigrationRunner가 정리
+                log.warn("⚠️ 저장소 키가 아닌 묘비, 회수 생략: {}", tombstone.getStoredPath());
+                tombstone.postpone(gracePeriod);
+                retained.add(tombstone);
+            } catch (IOException e) {
+                log.warn("⚠️ 파일 삭제 실패, 재시도 예정: {}", tombstone.getStoredPath(), e);
+                tombstone.markAttemptFailed(e.getMessage(), baseBackoff);
+                retained.add(tombstone);
+            }
+        }
+
+        tombstoneRepository.deleteAllByIdInBatch(done);
+        tombstoneRepository.saveAll(retained);
+
+        reclaimedFiles.increment(files);
+        reclaimedBytes.increment(bytes);
+        log.info("🧹 파일 회수: 묘비 {}건 처리, 파일 {}개 ({} bytes) 삭제, 보류 {}건", batch.size(), files, bytes, retained.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sg25.spring_server.global.infra.storage.gc;
+
+import com.sg25.spring_server.domain.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 회수 대상 파일 묘비
+ * 노트 삭제 트랜잭션 안에서 기록되므로, 커밋되면 서버가 죽더라도 다음 회수 주기에 반드시 처리된다.
+ * 파일 삭제는 멱등이라 중복 처리되어도 안전하다.
+ */
+@Entity
+@Table(name = "file_tombstone", indexes = {
+        @Index(name = "idx_file_tombstone_next_attempt", columnList = "next_attempt_at"),
+        @Index(name = "idx_file_tombstone_stored_path", columnList = "stored_path")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FileTombstone extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 512)
+    private String storedPath;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static FileTombstone of(String storedPath) {
+        return FileTombstone.builder()
+                .storedPath(storedPath)
+                .build();
+    }
+
+    // 삭제 실패: 지수 백오프 후 재시도
+    public void markAttemptFailed(String error, Duration baseBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        long multiplier = 1L << Math.min(this.attempts - 1, 10);
+        this.nextAttemptAt = LocalDateTime.now().plus(baseBackoff.multipliedBy(multiplier));
+    }
+
+    // 최근에 다시 쓰인 파일: 실패로 세지 않고 지정 시간 뒤로 미룸
+    public void postpone(Duration delay) {
+        this.nextAttemptAt = LocalDateTime.now().plus(delay);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sg25.spring_server.global.infra.storage.gc;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FileTombstoneRepository extends JpaRepository<FileTombstone, Long> {
+
+    // 회수 대상(유예 기간 경과 + 재시도 시각 도래) 배치 조회
+    List<FileTombstone> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+
+    @Query("select t.storedPath from FileTombstone t where t.storedPath in :storedPaths")
+    List<String> findExistingPaths(@Param("storedPaths") Collection<String> storedPaths);
+
+    // 노트들의 이미지 경로를 한 문장으로 묘비 등록 (대량 삭제용)
+    @Modifying
+    @Query(value = """
+            INSERT INTO file_tombstone (stored_path, attempts, next_attempt_at, created_at, updated_at)
+            SELECT DISTINCT i.stored_path, 0, NOW(6), NOW(6), NOW(6)
+            FROM note_image i
+            WHERE i.note_id IN (:noteIds) AND i.stored_path IS NOT NULL
+            """, nativeQuery = true)
+    int tombstoneImagesOfNotes(@Param("noteIds") Collection<Long> noteIds);
+
+    // 저장소 마이그레이션: BlobStore 키 형식이 아닌 기존 디스크 경로 묘비 (파생본 키 "derived/..."는 BlobStore 키이므로 제외)
+    @Query("""
+            select t from FileTombstone t
+            where t.storedPath not like '__/__/%' and t.storedPath not like 'derived/%'
+            order by t.id
+            """)
+    List<FileTombstone> findLegacy(Pageable pageable);
+}
@@ -0,0 +1,102 @@
+package com.sg25.spring_server.global.infra.storage.gc;
+
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import com.sg25.spring_server.global.infra.storage.blob.BlobSummary;
+import com.sg25.spring_server.global.infra.storage.derivative.ImageDerivative;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 저장소 ↔ DB 정합성 점검
+ * 저장소를 한 번 순회하면서 어떤 NoteImage도 참조하지 않는 파일(묘비 도입 이전 삭제분, 실패한 업로드 등)을 찾아
+ * 묘비로 등록한다. 실제 삭제는 FileReclaimer가 같은 키로 처리한다.
+ * 업로드 중인 파일을 건드리지 않도록 유예 기간보다 오래된 파일만 대상으로 한다.
+ */
+@Slf4j
+@Component
+public class StorageSweeper {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FileTombstoneRepository tombstoneRepository;
+    private final NoteImageRepository noteImageRepository;
+    private final BlobStore blobStore;
+    private final Duration gracePeriod;
+
+    public StorageSweeper(
+            FileTombstoneRepository tombstoneRepository,
+            NoteImageRepository noteImageRepository,
+            BlobStore blobStore,
+            @Value("${note.storage.gc.grace-period:1h}") Duration gracePeriod) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.noteImageRepository = noteImageRepository;
+        this.blobStore = blobStore;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(cron = "${note.storage.gc.sweep-cron:0 0 5 * * *}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        int[] counts = new int[2];      // [검사한 파일, 등록한 묘비]
+
+        // 저장소 전체를 메모리에 올리지 않고 스트리밍 순회, CHUNK_SIZE개씩 DB와 대조
+        try (Stream<BlobSummary> blobs = blobStore.list()) {
+            Iterator<BlobSummary> iterator = blobs.iterator();
+            while (iterator.hasNext()) {
+                BlobSummary blob = iterator.next();
+                if (blob.lastModified().isBefore(cutoff)) {
+                    chunk.add(blob.key());
+                    if (chunk.size() == CHUNK_SIZE) {
+                        flush(chunk, counts);
+                    }
+                }
+            }
+            flush(chunk, counts);
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ 저장소 점검 실패: {}", blobStore.type(), e);
+            return;
+        }
+
+        log.info("🧹 저장소 점검 완료: 파일 {}개 확인, 미참조 {}개 회수 예약", counts[0], counts[1]);
+    }
+
+    private void flush(List<String> chunk, int[] counts) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> known = new HashSet<>(noteImageRepository.findReferencedPaths(chunk));
+        known.addAll(tombstoneRepository.findExistingPaths(chunk));
+        // 파생본은 원본 내용 해시가 아직 참조되는 동안 유지
+        List<String> derivedHashes = chunk.stream()
+                .map(ImageDerivative::sourceHashOf).flatMap(Optional::stream).distinct().toList();
+        Set<String> referencedHashes = derivedHashes.isEmpty()
+                ? Set.of()
+                : new HashSet<>(noteImageRepository.findReferencedHashes(derivedHashes));
+
+        List<FileTombstone> orphans = chunk.stream()
+                .filter(key -> !known.contains(key))
+                .filter(key -> ImageDerivative.sourceHashOf(key).map(hash -> !referencedHashes.contains(hash)).orElse(true))
+                .map(FileTombstone::of)
+                .toList();
+        tombstoneRepository.saveAll(orphans);
+
+        counts[0] += chunk.size();
+        counts[1] += orphans.size();
+        chunk.clear();
+    }
+}
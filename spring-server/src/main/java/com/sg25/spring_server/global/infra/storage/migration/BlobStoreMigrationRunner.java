@@ -0,0 +1,209 @@
+package com.sg25.spring_server.global.infra.storage.migration;
+
+import com.sg25.spring_server.domain.note.domain.repository.NoteAnalysisOutboxRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.global.infra.storage.NoteImageStorage;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStore;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStoreFactory;
+import com.sg25.spring_server.global.infra.storage.blob.BlobStoreType;
+import com.sg25.spring_server.global.infra.storage.blob.BlobSummary;
+import com.sg25.spring_server.global.infra.storage.gc.FileTombstone;
+import com.sg25.spring_server.global.infra.storage.gc.FileTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 저장소 마이그레이션 (기동 시 1회, note.storage.migration.source 설정 시에만 활성화)
+ * - legacy: 기존 "노트별 디렉터리" 경로로 저장된 NoteImage를 내용 해시 키로 옮기고 storedPath를 교체
+ * - local / s3: 다른 BlobStore에 있는 객체 중 현재 저장소에 없는 것만 복사 (키는 그대로)
+ * 이미 옮긴 데이터는 건너뛰므로 중간에 멈춰도 다시 실행하면 이어서 진행된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "note.storage.migration.source")
+public class BlobStoreMigrationRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String LEGACY = "legacy";
+
+    private final BlobStore blobStore;
+    private final BlobStoreFactory blobStoreFactory;
+    private final NoteImageRepository noteImageRepository;
+    private final NoteAnalysisOutboxRepository outboxRepository;
+    private final FileTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String source;
+    private final boolean deleteSource;
+
+    public BlobStoreMigrationRunner(
+            BlobStore blobStore,
+            BlobStoreFactory blobStoreFactory,
+            NoteImageRepository noteImageRepository,
+            NoteAnalysisOutboxRepository outboxRepository,
+            FileTombstoneRepository tombstoneRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${note.storage.migration.source}") String source,
+            @Value("${note.storage.migration.delete-source:false}") boolean deleteSource) {
+        this.blobStore = blobStore;
+        this.blobStoreFactory = blobStoreFactory;
+        this.noteImageRepository = noteImageRepository;
+        this.outboxRepository = outboxRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.source = source;
+        this.deleteSource = deleteSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (LEGACY.equalsIgnoreCase(source)) {
+            migrateLegacyPaths();
+            return;
+        }
+
+        BlobStoreType sourceType = BlobStoreType.valueOf(source.toUpperCase(Locale.ROOT));
+        if (sourceType == blobStore.type()) {
+            log.warn("⚠️ 원본과 대상 저장소가 같아 마이그레이션을 건너뜀: {}", sourceType);
+            return;
+        }
+        copyBlobs(blobStoreFactory.create(sourceType));
+    }
+
+    // 1. 기존 디스크 경로 → 내용 해시 키
+    private void migrateLegacyPaths() {
+        int moved = 0;
+        int failed = 0;
+        String after = "";
+
+        List<String> paths;
+        while (!(paths = noteImageRepository.findLegacyStoredPaths(after, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            for (String storedPath : paths) {
+                try {
+                    migrateLegacyFile(storedPath);
+                    moved++;
+                } catch (IOException e) {
+                    log.warn("⚠️ 이미지 이전 실패 (원본 유지): {}", storedPath, e);
+                    failed++;
+                }
+            }
+            after = paths.get(paths.size() - 1);
+        }
+
+        // 삭제 대기 중이던 기존 경로 묘비는 여기서 원본 파일과 함께 정리 (FileReclaimer는 키만 다룸)
+        List<FileTombstone> tombstones;
+        while (!(tombstones = tombstoneRepository.findLegacy(PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            for (FileTombstone tombstone : tombstones) {
+                deleteLegacyQuietly(Paths.get(tombstone.getStoredPath()));
+            }
+            tombstoneRepository.deleteAllInBatch(tombstones);
+        }
+
+        log.info("📦 기존 이미지 경로 이전 완료: {}건 이전, {}건 실패", moved, failed);
+    }
+
+    private void migrateLegacyFile(String storedPath) throws IOException {
+        Path legacy = Paths.get(storedPath);
+        Path temp = Files.createTempFile(blobStore.stagingDirectory(), "note-migrate-", ".part");
+        try {
+            // 원본은 복사본으로 올리고(put이 임시 파일을 소비), 복사하면서 해시 계산
+            MessageDigest digest = NoteImageStorage.sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(legacy), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            String key = NoteImageStorage.contentKey(contentHash, legacy.getFileName().toString());
+
+            blobStore.put(key, temp, contentType(key));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                noteImageRepository.updateStoredPath(storedPath, key, contentHash);
+                outboxRepository.updateStoredPath(storedPath, key);
+            });
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        if (deleteSource) {
+            deleteLegacyQuietly(legacy);
+        }
+    }
+
+    private void deleteLegacyQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ 기존 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    // 2. 다른 BlobStore → 현재 BlobStore (없는 키만)
+    private void copyBlobs(BlobStore sourceStore) throws IOException {
+        int copied = 0;
+        int skipped = 0;
+
+        try (Stream<BlobSummary> blobs = sourceStore.list()) {
+            Iterator<BlobSummary> iterator = blobs.iterator();
+            while (iterator.hasNext()) {
+                BlobSummary blob = iterator.next();
+                if (blobStore.exists(blob.key())) {
+                    skipped++;
+                    continue;
+                }
+
+                Resource resource = sourceStore.getResource(blob.key());
+                Path temp = Files.createTempFile(blobStore.stagingDirectory(), "note-migrate-", ".part");
+                try {
+                    try (InputStream in = resource.getInputStream()) {
+                        Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    blobStore.put(blob.key(), temp, contentType(blob.key()));
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+
+                if (deleteSource) {
+                    sourceStore.delete(blob.key());
+                }
+                copied++;
+            }
+        } finally {
+            if (sourceStore instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("⚠️ 원본 저장소 종료 실패", e);
+                }
+            }
+        }
+
+        log.info("📦 저장소 복사 완료: {} → {}, {}건 복사, {}건 이미 존재", source, blobStore.type(), copied, skipped);
+    }
+
+    private static String contentType(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sg25.spring_server.domain.auth.revocation;
+
+import com.sg25.spring_server.domain.auth.jwt.TokenDigest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추가한 다이제스트는 항상 "있을 수 있음" (false negative 없음), 오탐률은 설정값 근처
+ */
+class BloomFilterTest {
+
+    private static final int ENTRIES = 10_000;
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+
+        assertThat(filter.mightContain(TokenDigest.sha256("token"))).isFalse();
+    }
+
+    @Test
+    void addedDigestsAreNeverMissed() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put(TokenDigest.sha256("revoked-" + i));
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertThat(filter.mightContain(TokenDigest.sha256("revoked-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put(TokenDigest.sha256("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < ENTRIES; i++) {
+            if (filter.mightContain(TokenDigest.sha256("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(ENTRIES * 3 / 100);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sg25.spring_server.domain.auth.revocation;
+
+import com.sg25.spring_server.domain.auth.jwt.TokenDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 폐기 토큰 저장소
+ * - 폐기한 토큰은 exp까지 항상 폐기로 판단 (Bloom 필터 false negative 없음)
+ * - Bloom 필터가 "있을 수 있음"이어도 정확한 목록에 없으면 폐기 아님
+ * - exp가 지난 항목은 정리 시 제거되고 남은 항목은 재구성된 필터에서도 폐기 유지
+ */
+class TokenRevocationStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void revokedTokensAreAlwaysDetected() {
+        TokenRevocationStore store = new TokenRevocationStore(meterRegistry, 1000, 0.01);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        for (int i = 0; i < 1000; i++) {
+            store.add(TokenDigest.of("revoked-" + i), expiresAt);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(store.isRevoked("revoked-" + i)).isTrue();
+        }
+        assertThat(store.isRevoked("active")).isFalse();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        TokenRevocationStore store = new TokenRevocationStore(meterRegistry, 1000, 0.01);
+
+        store.add(TokenDigest.of("expired"), Instant.now().minusSeconds(1));
+
+        assertThat(store.isRevoked("expired")).isFalse();
+        assertThat(entryCount()).isZero();
+    }
+
+    @Test
+    void bloomHitFallsBackToExactSet() {
+        // 아주 작은 필터를 포화시켜 폐기되지 않은 토큰도 필터를 통과하게 만듦
+        TokenRevocationStore store = new TokenRevocationStore(meterRegistry, 1, 0.5);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        for (int i = 0; i < 200; i++) {
+            store.add(TokenDigest.of("revoked-" + i), expiresAt);
+        }
+        BloomFilter filter = (BloomFilter) ReflectionTestUtils.getField(store, "filter");
+
+        for (int i = 0; i < 1000; i++) {
+            String token = "active-" + i;
+            if (filter.mightContain(TokenDigest.sha256(token))) {
+                assertThat(store.isRevoked(token)).isFalse();
+            }
+        }
+        assertThat(filter.mightContain(TokenDigest.sha256("active-0"))).isTrue();
+    }
+
+    @Test
+    void purgeRemovesExpiredEntriesAndKeepsTheRest() throws InterruptedException {
+        TokenRevocationStore store = new TokenRevocationStore(meterRegistry, 1000, 0.01);
+        store.add(TokenDigest.of("short-lived"), Instant.now().plusMillis(50));
+        store.add(TokenDigest.of("long-lived"), Instant.now().plusSeconds(60));
+
+        Thread.sleep(100);
+        store.purgeExpired();
+
+        assertThat(entryCount()).isEqualTo(1);
+        assertThat(store.isRevoked("short-lived")).isFalse();
+        assertThat(store.isRevoked("long-lived")).isTrue();
+    }
+
+    @Test
+    void memberCutoffRejectsTokensIssuedUntilRevocation() {
+        TokenRevocationStore store = new TokenRevocationStore(meterRegistry, 1000, 0.01);
+        Instant notBefore = Instant.now();
+
+        store.revokeMember(7L, notBefore, notBefore.plusSeconds(60));
+
+        assertThat(store.isRevokedForMember(7L, notBefore.minusSeconds(5))).isTrue();
+        assertThat(store.isRevokedForMember(7L, notBefore)).isTrue();
+        assertThat(store.isRevokedForMember(7L, notBefore.plusSeconds(1))).isFalse();
+        assertThat(store.isRevokedForMember(8L, notBefore.minusSeconds(5))).isFalse();
+    }
+
+    @Test
+    void purgeRemovesExpiredMemberCutoff() throws InterruptedException {
+        TokenRevocationStore store = new TokenRevocationStore(meterRegistry, 1000, 0.01);
+        Instant notBefore = Instant.now();
+        store.revokeMember(7L, notBefore, notBefore.plusMillis(50));
+
+        Thread.sleep(100);
+        store.purgeExpired();
+
+        assertThat(store.isRevokedForMember(7L, notBefore.minusSeconds(5))).isFalse();
+    }
+
+    private double entryCount() {
+        return meterRegistry.get("auth.revocation.entries").gauge().value();
+    }
+}
@@ -0,0 +1,151 @@
+package com.sg25.spring_server.domain.auth.service;
+
+import com.sg25.spring_server.domain.auth.domain.entity.RefreshToken;
+import com.sg25.spring_server.domain.auth.domain.repository.RefreshTokenRepository;
+import com.sg25.spring_server.domain.auth.jwt.JwtProvider;
+import com.sg25.spring_server.domain.auth.jwt.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * refresh 토큰 회전과 재사용 감지
+ * - 미사용 토큰: used 전환 후 같은 family로 새 토큰
+ * - 유예 시간(10초) 안의 재사용: 동시 재발급으로 보고 family 유지
+ * - 유예 시간이 지난 재사용: family 전체 폐기
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final String EMAIL = "a@example.com";
+    private static final String FAMILY_ID = "family-1";
+    private static final Duration REUSE_GRACE = Duration.ofSeconds(10);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JwtProvider jwtProvider;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secretKeyString", Base64.getEncoder()
+                .encodeToString("0123456789abcdef".repeat(4).getBytes(StandardCharsets.UTF_8)));
+        ReflectionTestUtils.setField(jwtProvider, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtProvider, "refreshTokenExpiration", 604_800_000L);
+        jwtProvider.init();
+
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtProvider, 1000, REUSE_GRACE);
+    }
+
+    @Test
+    void rotatesUnusedTokenWithinSameFamily() {
+        String token = jwtProvider.generateRefreshToken(EMAIL);
+        given(refreshTokenRepository.findByTokenHash(TokenDigest.of(token))).willReturn(Optional.of(stored(token, null)));
+        given(refreshTokenRepository.markUsed(eq(1L), any())).willReturn(1);
+
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(token);
+
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().memberId()).isEqualTo(MEMBER_ID);
+        assertThat(rotation.get().email()).isEqualTo(EMAIL);
+        assertThat(rotation.get().refreshToken()).isNotEqualTo(token);
+        assertSavedInFamily(rotation.get().refreshToken());
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    void reuseWithinGraceKeepsFamily() {
+        String token = jwtProvider.generateRefreshToken(EMAIL);
+        given(refreshTokenRepository.findByTokenHash(TokenDigest.of(token))).willReturn(Optional.of(stored(token, null)));
+        given(refreshTokenRepository.markUsed(eq(1L), any())).willReturn(0);
+        given(refreshTokenRepository.findByIdForUpdate(1L))
+                .willReturn(Optional.of(stored(token, LocalDateTime.now().minusSeconds(2))));
+
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(token);
+
+        assertThat(rotation).isPresent();
+        assertSavedInFamily(rotation.get().refreshToken());
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    void reuseAfterGraceRevokesFamily() {
+        String token = jwtProvider.generateRefreshToken(EMAIL);
+        given(refreshTokenRepository.findByTokenHash(TokenDigest.of(token))).willReturn(Optional.of(stored(token, null)));
+        given(refreshTokenRepository.markUsed(eq(1L), any())).willReturn(0);
+        given(refreshTokenRepository.findByIdForUpdate(1L))
+                .willReturn(Optional.of(stored(token, LocalDateTime.now().minusMinutes(1))));
+        given(refreshTokenRepository.deleteByFamilyId(FAMILY_ID)).willReturn(2);
+
+        Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(token);
+
+        assertThat(rotation).isEmpty();
+        verify(refreshTokenRepository).deleteByFamilyId(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void revokedFamilyTokenIsRejected() {
+        String token = jwtProvider.generateRefreshToken(EMAIL);
+        given(refreshTokenRepository.findByTokenHash(TokenDigest.of(token))).willReturn(Optional.empty());
+
+        assertThat(refreshTokenService.rotate(token)).isEmpty();
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void accessTokenIsRejectedAsRefreshToken() {
+        String accessToken = jwtProvider.generateAccessToken(EMAIL, MEMBER_ID);
+
+        assertThat(refreshTokenService.rotate(accessToken)).isEmpty();
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThat(refreshTokenService.rotate("not-a-jwt")).isEmpty();
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    private RefreshToken stored(String token, LocalDateTime usedAt) {
+        return RefreshToken.builder()
+                .id(1L)
+                .tokenHash(TokenDigest.of(token))
+                .familyId(FAMILY_ID)
+                .memberId(MEMBER_ID)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .used(usedAt != null)
+                .usedAt(usedAt)
+                .build();
+    }
+
+    private void assertSavedInFamily(String rotatedToken) {
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(FAMILY_ID);
+        assertThat(saved.getValue().getMemberId()).isEqualTo(MEMBER_ID);
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(TokenDigest.of(rotatedToken));
+    }
+}
@@ -0,0 +1,87 @@
+package com.sg25.spring_server.domain.member.controller;
+
+import com.sg25.spring_server.domain.auth.jwt.JwtVerifier;
+import com.sg25.spring_server.domain.auth.principal.AuthenticatedMember;
+import com.sg25.spring_server.domain.auth.service.AuthService;
+import com.sg25.spring_server.domain.member.dto.MemberResponseDTO;
+import com.sg25.spring_server.domain.member.service.MemberService;
+import com.sg25.spring_server.global.config.JwtFilterConfig;
+import com.sg25.spring_server.global.config.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 API 본인 확인 (@PreAuthorize("#id == principal.id"))
+ * 회원 A(id 1)가 회원 B(id 2)의 경로로 조회/수정/삭제하면 서비스 호출 없이 403이어야 한다.
+ */
+@WebMvcTest(MemberRestController.class)
+@Import({SecurityConfig.class, JwtFilterConfig.class})
+@MockBean(JpaMetamodelMappingContext.class)
+class MemberRestControllerTest {
+
+    private static final AuthenticatedMember MEMBER_A = new AuthenticatedMember(1L, "a@example.com");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MemberService memberService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private JwtVerifier jwtVerifier;
+
+    @Test
+    void getOtherMemberIsForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/members/2").with(user(MEMBER_A)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    void updateOtherMemberIsForbidden() throws Exception {
+        mockMvc.perform(patch("/api/v1/members/2").with(user(MEMBER_A))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"변경\",\"password\":\"password\"}"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    void deleteOtherMemberIsForbidden() throws Exception {
+        mockMvc.perform(delete("/api/v1/members/2").with(user(MEMBER_A)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    void getOwnMemberIsAllowed() throws Exception {
+        given(memberService.find(any())).willReturn(MemberResponseDTO.MemberViewResponse.builder()
+                .id(1L)
+                .email(MEMBER_A.getEmail())
+                .build());
+
+        mockMvc.perform(get("/api/v1/members/1").with(user(MEMBER_A)))
+                .andExpect(status().isOk());
+    }
+}
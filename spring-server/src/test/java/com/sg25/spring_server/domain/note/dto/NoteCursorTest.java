@@ -0,0 +1,124 @@
+package com.sg25.spring_server.domain.note.dto;
+
+import com.sg25.spring_server.domain.note.converter.NoteConverter;
+import com.sg25.spring_server.domain.note.domain.repository.NoteSummary;
+import com.sg25.spring_server.global.apiPayLoad.code.status.ErrorStatus;
+import com.sg25.spring_server.global.exception.GeneralException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 노트 목록 keyset 커서
+ * - encode/decode 왕복 (초 미만 단위 포함)
+ * - 잘못된 토큰은 400(_BAD_REQUEST)
+ * - createdAt이 같은 노트가 여러 개여도 (createdAt, id) 순서로 빠짐/중복 없이 넘어감
+ */
+class NoteCursorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final LocalDateTime T1 = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+    private static final LocalDateTime T2 = LocalDateTime.of(2024, 3, 2, 8, 0);
+
+    private final NoteConverter noteConverter = new NoteConverter();
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        NoteCursor cursor = new NoteCursor(T1, 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(NoteCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeMinute() {
+        NoteCursor cursor = new NoteCursor(T0, 1L);
+
+        assertThat(NoteCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"not base64!", "%%%"})
+    void rejectsInvalidBase64(String token) {
+        assertBadRequest(token);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"garbage", "2024-03-01T09:00", "2024-03-01T09:00|abc", "yesterday|1", "|1"})
+    void rejectsMalformedPayload(String raw) {
+        assertBadRequest(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void pagesThroughTiesOnCreatedAtWithoutGapsOrDuplicates() {
+        List<NoteSummary> notes = List.of(
+                summary(1L, T1), summary(2L, T1), summary(3L, T1), summary(4L, T1),
+                summary(5L, T2), summary(6L, T2), summary(7L, T0));
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            NoteResponseDTO.NoteSliceResponse page = noteConverter.toNoteSliceDTO(fetch(notes, cursor, 2 + 1), 2);
+            page.getNotes().forEach(note -> seen.add(note.getNoteId()));
+            cursor = page.getNextCursor();
+            assertThat(cursor == null).isEqualTo(!page.isHasNext());
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(6L, 5L, 4L, 3L, 2L, 1L, 7L);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    // NoteRepository.findFirstSummaries / findSummariesAfter와 같은 조건과 정렬
+    private List<NoteSummary> fetch(List<NoteSummary> notes, String cursor, int limit) {
+        NoteCursor after = cursor == null ? null : NoteCursor.decode(cursor);
+        return notes.stream()
+                .filter(n -> after == null
+                        || n.getCreatedAt().isBefore(after.createdAt())
+                        || (n.getCreatedAt().isEqual(after.createdAt()) && n.getNoteId() < after.noteId()))
+                .sorted(Comparator.comparing(NoteSummary::getCreatedAt).thenComparing(NoteSummary::getNoteId).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static void assertBadRequest(String token) {
+        assertThatThrownBy(() -> NoteCursor.decode(token))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(ErrorStatus._BAD_REQUEST);
+    }
+
+    private static NoteSummary summary(Long noteId, LocalDateTime createdAt) {
+        return new NoteSummary() {
+            @Override
+            public Long getNoteId() {
+                return noteId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "노트 " + noteId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.sg25.spring_server.domain.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인은 모든 글자 unigram + 어절 내부 bigram, 질의는 두 글자 이상 어절이면 bigram만 / 한 글자 어절이면 unigram
+ */
+class NgramTokenizerTest {
+
+    @Test
+    void indexesUnigramsAndBigramsWithinWords() {
+        Map<String, Integer> frequencies = NgramTokenizer.termFrequencies("마음을 담아");
+
+        assertThat(frequencies).containsOnlyKeys("마", "음", "을", "담", "아", "마음", "음을", "담아");
+        assertThat(frequencies).doesNotContainKey("을담");         // 어절 경계를 넘는 bigram 없음
+    }
+
+    @Test
+    void countsRepeatedGrams() {
+        Map<String, Integer> frequencies = NgramTokenizer.termFrequencies("마음 마음을");
+
+        assertThat(frequencies).containsEntry("마음", 2).containsEntry("음", 2).containsEntry("음을", 1);
+    }
+
+    @Test
+    void mixedHangulAndLatinWordIsSplitByCodePoint() {
+        Map<String, Integer> frequencies = NgramTokenizer.termFrequencies("OCR결과 Test");
+
+        assertThat(frequencies).containsKeys("o", "c", "r", "결", "과", "oc", "cr", "r결", "결과",
+                "t", "e", "s", "te", "es", "st");
+        assertThat(frequencies).containsEntry("t", 2);
+        assertThat(frequencies).doesNotContainKeys("OCR", "Test");
+    }
+
+    @Test
+    void normalizesFullWidthAndCase() {
+        assertThat(NgramTokenizer.queryTerms("ＡＢ")).containsExactly("ab");
+    }
+
+    @Test
+    void queryUsesBigramsForLongWordsAndUnigramsForSingleCharacters() {
+        assertThat(NgramTokenizer.queryTerms("마음을 꿈")).containsExactly("마음", "음을", "꿈");
+    }
+
+    @Test
+    void queryDropsDuplicatesAndPunctuation() {
+        assertThat(NgramTokenizer.queryTerms("마음, 마음!")).containsExactly("마음");
+    }
+
+    @Test
+    void nullAndBlankTextProduceNoTerms() {
+        assertThat(NgramTokenizer.termFrequencies(null)).isEmpty();
+        assertThat(NgramTokenizer.queryTerms("  ...  ")).isEmpty();
+    }
+}
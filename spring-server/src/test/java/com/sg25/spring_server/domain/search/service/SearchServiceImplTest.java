@@ -0,0 +1,197 @@
+package com.sg25.spring_server.domain.search.service;
+
+import com.sg25.spring_server.domain.note.domain.entity.NoteImage;
+import com.sg25.spring_server.domain.note.domain.repository.NoteImageRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteRepository;
+import com.sg25.spring_server.domain.note.domain.repository.NoteSummary;
+import com.sg25.spring_server.domain.search.domain.entity.SearchDocument;
+import com.sg25.spring_server.domain.search.domain.entity.SearchPosting;
+import com.sg25.spring_server.domain.search.domain.repository.CorpusStats;
+import com.sg25.spring_server.domain.search.domain.repository.SearchDocumentRepository;
+import com.sg25.spring_server.domain.search.domain.repository.SearchIndexJdbcRepository;
+import com.sg25.spring_server.domain.search.domain.repository.SearchPostingRepository;
+import com.sg25.spring_server.domain.search.dto.SearchResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 작은 고정 말뭉치에서 BM25 순위 확인
+ * 색인은 indexImages와 같은 방식(NgramTokenizer.termFrequencies)으로 만들고, 저장소는 메모리 목록으로 대신한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchServiceImplTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private SearchPostingRepository postingRepository;
+    @Mock
+    private SearchDocumentRepository documentRepository;
+    @Mock
+    private SearchIndexJdbcRepository searchIndexJdbcRepository;
+    @Mock
+    private NoteRepository noteRepository;
+    @Mock
+    private NoteImageRepository noteImageRepository;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    private final List<SearchDocument> documents = new ArrayList<>();
+    private final List<SearchPosting> postings = new ArrayList<>();
+    private final List<NoteImage> images = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        given(postingRepository.findPostings(eq(MEMBER_ID), anyCollection())).willAnswer(invocation -> {
+            Collection<String> terms = invocation.getArgument(1);
+            return postings.stream().filter(p -> terms.contains(p.getTerm())).toList();
+        });
+        given(documentRepository.getCorpusStats(MEMBER_ID)).willAnswer(invocation -> corpusStats());
+        given(documentRepository.findAllById(any())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return documents.stream().filter(d -> ids.contains(d.getNoteImageId())).toList();
+        });
+        given(noteRepository.findSummariesByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> noteIds = invocation.getArgument(0);
+            return noteIds.stream().map(SearchServiceImplTest::summary).toList();
+        });
+        given(noteImageRepository.findAllById(any())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return images.stream().filter(i -> ids.contains(i.getId())).toList();
+        });
+    }
+
+    @Test
+    void higherTermFrequencyRanksFirst() {
+        index(10L, 1L, "마음 마음 편지");
+        index(20L, 2L, "마음 편지 조각");
+        index(30L, 3L, "오늘 날씨 맑음");
+
+        SearchResponseDTO.NoteSearchResponse response = searchService.search(MEMBER_ID, "마음", 10);
+
+        assertThat(response.getResults()).extracting(SearchResponseDTO.NoteSearchResult::getNoteId)
+                .containsExactly(10L, 20L);
+        assertThat(response.getResults().get(0).getScore()).isGreaterThan(response.getResults().get(1).getScore());
+    }
+
+    @Test
+    void shorterDocumentRanksFirstForSameTermFrequency() {
+        index(10L, 1L, "마음 그리고 아주 길게 이어지는 문장 하나 둘 셋 넷 다섯 여섯");
+        index(20L, 2L, "마음 조각");
+
+        SearchResponseDTO.NoteSearchResponse response = searchService.search(MEMBER_ID, "마음", 10);
+
+        assertThat(response.getResults()).extracting(SearchResponseDTO.NoteSearchResult::getNoteId)
+                .containsExactly(20L, 10L);
+    }
+
+    @Test
+    void rareTermOutweighsCommonTerm() {
+        index(10L, 1L, "마음 마음 마음");
+        index(20L, 2L, "마음 편지");
+        index(30L, 3L, "마음 날씨");
+
+        SearchResponseDTO.NoteSearchResponse response = searchService.search(MEMBER_ID, "마음 날씨", 10);
+
+        assertThat(response.getResults().get(0).getNoteId()).isEqualTo(30L);
+    }
+
+    @Test
+    void noteIsRankedByItsBestImage() {
+        index(10L, 1L, "오늘 날씨");
+        index(10L, 4L, "마음 마음 편지");
+        index(20L, 2L, "마음 편지 조각");
+
+        SearchResponseDTO.NoteSearchResponse response = searchService.search(MEMBER_ID, "마음", 10);
+
+        assertThat(response.getResults()).extracting(SearchResponseDTO.NoteSearchResult::getNoteId)
+                .containsExactly(10L, 20L);
+        assertThat(response.getResults().get(0).getImageId()).isEqualTo(4L);
+        assertThat(response.getResults().get(0).getSnippet()).contains("<em>마음</em>");
+    }
+
+    @Test
+    void sizeLimitsResults() {
+        index(10L, 1L, "마음 마음");
+        index(20L, 2L, "마음");
+
+        SearchResponseDTO.NoteSearchResponse response = searchService.search(MEMBER_ID, "마음", 1);
+
+        assertThat(response.getResults()).extracting(SearchResponseDTO.NoteSearchResult::getNoteId)
+                .containsExactly(10L);
+    }
+
+    // indexImages와 같은 방식으로 문서/포스팅 적재
+    private void index(Long noteId, Long imageId, String text) {
+        Map<String, Integer> frequencies = NgramTokenizer.termFrequencies(text);
+        frequencies.forEach((term, tf) -> postings.add(SearchPosting.builder()
+                .term(term)
+                .memberId(MEMBER_ID)
+                .noteImageId(imageId)
+                .noteId(noteId)
+                .tf(tf)
+                .build()));
+        documents.add(SearchDocument.builder()
+                .noteImageId(imageId)
+                .noteId(noteId)
+                .memberId(MEMBER_ID)
+                .termCount(frequencies.values().stream().mapToInt(Integer::intValue).sum())
+                .build());
+        images.add(NoteImage.builder().id(imageId).recognizedText(text).build());
+    }
+
+    private CorpusStats corpusStats() {
+        long count = documents.size();
+        double average = documents.stream().mapToInt(SearchDocument::getTermCount).average().orElse(0);
+        return new CorpusStats() {
+            @Override
+            public long getDocumentCount() {
+                return count;
+            }
+
+            @Override
+            public double getAverageLength() {
+                return average;
+            }
+        };
+    }
+
+    private static NoteSummary summary(Long noteId) {
+        return new NoteSummary() {
+            @Override
+            public Long getNoteId() {
+                return noteId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "노트 " + noteId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2024, 1, 1, 0, 0);
+            }
+        };
+    }
+}
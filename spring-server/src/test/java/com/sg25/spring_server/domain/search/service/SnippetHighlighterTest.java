@@ -0,0 +1,75 @@
+package com.sg25.spring_server.domain.search.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 첫 일치 위치 앞 30자부터 120자 창, 창 밖이 잘리면 말줄임표, 일치 구간은 이스케이프 후 <em>
+ */
+class SnippetHighlighterTest {
+
+    @Test
+    void emptyTextProducesEmptySnippet() {
+        assertThat(SnippetHighlighter.highlight(null, List.of("마음"))).isEmpty();
+        assertThat(SnippetHighlighter.highlight("", List.of("마음"))).isEmpty();
+    }
+
+    @Test
+    void highlightsMatchesInShortText() {
+        assertThat(SnippetHighlighter.highlight("오늘 마음을 담아", List.of("마음")))
+                .isEqualTo("오늘 <em>마음</em>을 담아");
+    }
+
+    @Test
+    void mergesOverlappingTermsIntoOneRun() {
+        assertThat(SnippetHighlighter.highlight("마음을 담아", List.of("마음", "음을")))
+                .isEqualTo("<em>마음을</em> 담아");
+    }
+
+    @Test
+    void matchesCaseInsensitively() {
+        assertThat(SnippetHighlighter.highlight("OCR 결과", List.of("ocr")))
+                .isEqualTo("<em>OCR</em> 결과");
+    }
+
+    @Test
+    void windowStartsThirtyCharactersBeforeFirstMatch() {
+        String text = "가".repeat(50) + "마음" + "나".repeat(10);
+
+        assertThat(SnippetHighlighter.highlight(text, List.of("마음")))
+                .isEqualTo("…" + "가".repeat(30) + "<em>마음</em>" + "나".repeat(10));
+    }
+
+    @Test
+    void longTextIsCutAfterWindowWithEllipsis() {
+        String text = "마음" + "가".repeat(200);
+
+        assertThat(SnippetHighlighter.highlight(text, List.of("마음")))
+                .isEqualTo("<em>마음</em>" + "가".repeat(118) + "…");
+    }
+
+    @Test
+    void matchCrossingWindowEndIsClosedAtBoundary() {
+        String text = "마음" + "가".repeat(117) + "마음" + "가".repeat(10);
+
+        assertThat(SnippetHighlighter.highlight(text, List.of("마음")))
+                .endsWith("가<em>마</em>…");
+    }
+
+    @Test
+    void withoutMatchShowsBeginningOfText() {
+        String text = "가".repeat(150);
+
+        assertThat(SnippetHighlighter.highlight(text, List.of("마음")))
+                .isEqualTo("가".repeat(120) + "…");
+    }
+
+    @Test
+    void escapesHtmlOutsideAndInsideHighlight() {
+        assertThat(SnippetHighlighter.highlight("<b>마음</b> & 꿈", List.of("마음", "&")))
+                .isEqualTo("&lt;b&gt;<em>마음</em>&lt;/b&gt; <em>&amp;</em> 꿈");
+    }
+}
@@ -0,0 +1,142 @@
+package com.sg25.spring_server.global.infra.flask;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg25.spring_server.global.infra.storage.blob.LocalBlobStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flask 전송 방식별 최대 힙 사용량 / 처리량 비교 벤치마크
+ * 로컬 스텁 분석 서버(요청 바디를 버리고 200 응답)를 띄워 측정하며, 기본 test 태스크에서는 제외된다.
+ * 힙은 GC 직후 사용량(= 살아 있는 객체)의 최댓값으로 잰다. 스트리밍 방식은 이미지 한 장 크기 미만,
+ * 전체 버퍼링(JSON)은 이미지 한 장 이상을 붙잡고 있어야 한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class FlaskTransportBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(FlaskTransportBenchmark.class);
+
+    private static final int IMAGE_SIZE = 8 * 1024 * 1024;  // 휴대폰 카메라 원본 수준
+    private static final int REQUESTS = 40;
+    private static final int CONCURRENCY = 4;
+
+    @TempDir
+    static Path tempDir;
+
+    private static DisposableServer stubAnalyzer;
+    private static Path image;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        stubAnalyzer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/analyze", (request, response) ->
+                        request.receive().then().then(response.status(200).send().then())))
+                .bindNow();
+
+        byte[] bytes = new byte[IMAGE_SIZE];
+        new Random(42).nextBytes(bytes);
+        image = Files.write(tempDir.resolve("image.jpg"), bytes);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stubAnalyzer.disposeNow();
+    }
+
+    @Test
+    void compareTransportModes() {
+        Map<FlaskTransportMode, Result> results = new EnumMap<>(FlaskTransportMode.class);
+        for (FlaskTransportMode mode : FlaskTransportMode.values()) {
+            run(mode, 5); // 워밍업
+            Result result = run(mode, REQUESTS);
+            log.info("{} peakLiveHeap={} MB throughput={} req/s", mode,
+                    String.format("%.1f", result.peakHeapBytes() / (1024.0 * 1024.0)),
+                    String.format("%.2f", result.requestsPerSecond()));
+            results.put(mode, result);
+        }
+
+        // 전체 버퍼링: 동시 요청마다 원본 + base64 사본을 힙에 올림
+        assertThat(results.get(FlaskTransportMode.JSON).peakHeapBytes())
+                .as("JSON 모드 최대 힙")
+                .isGreaterThanOrEqualTo(IMAGE_SIZE);
+        // 스트리밍: 청크 버퍼만 살아 있으므로 이미지 크기와 무관하게 한 장 미만
+        for (FlaskTransportMode mode : List.of(FlaskTransportMode.BASE64_STREAM, FlaskTransportMode.MULTIPART)) {
+            assertThat(results.get(mode).peakHeapBytes())
+                    .as("%s 모드 최대 힙", mode)
+                    .isLessThan(IMAGE_SIZE)
+                    .isLessThan(results.get(FlaskTransportMode.JSON).peakHeapBytes() / 4);
+        }
+    }
+
+    private Result run(FlaskTransportMode mode, int requests) {
+        FlaskAnalyzeClient client = new FlaskAnalyzeClient(WebClient.create(), new ObjectMapper(), new LocalBlobStore(tempDir));
+        ReflectionTestUtils.setField(client, "flaskBaseUrl", "http://localhost:" + stubAnalyzer.port());
+
+        System.gc();
+        long baseline = liveHeapBytes();
+        AtomicLong peak = new AtomicLong(baseline);
+
+        // 요청이 도는 동안 GC 직후 힙 사용량 샘플링 (수거될 청크 버퍼 등 쓰레기는 제외)
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(liveHeapBytes(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        long start = System.nanoTime();
+        Flux.range(0, requests)
+                .flatMap(i -> client.requestAnalysis(mode, (long) i, new FileSystemResource(image), "image.jpg"), CONCURRENCY)
+                .blockLast();
+        long elapsed = System.nanoTime() - start;
+
+        sampler.interrupt();
+        return new Result(Math.max(0, peak.get() - baseline), requests / (elapsed / 1_000_000_000.0));
+    }
+
+    // 힙 메모리 풀별 마지막 GC 직후 사용량 합
+    private static long liveHeapBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getCollectionUsage)
+                .filter(Objects::nonNull)
+                .mapToLong(MemoryUsage::getUsed)
+                .sum();
+    }
+
+    private record Result(long peakHeapBytes, double requestsPerSecond) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.sg25.spring_server.global.infra.gpt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GPT 호출 속도 제한기
+ * - 예약형 버킷: 한도 안에서는 대기 없음, 넘으면 회복까지의 시간만큼 대기, 시간이 지나면 다시 채워짐
+ * - x-ratelimit-* 헤더로 한도/잔여량 재조정, 429면 reset 시각까지 보류 후 재시도
+ * - 동시성 한도: 성공이 한도만큼 쌓이면 +1, 429면 절반
+ */
+class GptRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void reservationsWithinBudgetDoNotWait() {
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60);
+
+        for (int i = 0; i < 60; i++) {
+            assertThat(bucket.reserve(1)).isZero();
+        }
+        // 분당 60 = 초당 1 → 다음 예약은 약 1초 대기
+        assertThat(bucket.reserve(1)).isBetween(SECOND * 9 / 10, SECOND);
+    }
+
+    @Test
+    void reservationsQueueBehindEachOther() {
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60);
+        bucket.reserve(60);
+
+        long first = bucket.reserve(1);
+        long second = bucket.reserve(1);
+
+        assertThat(second - first).isBetween(SECOND * 9 / 10, SECOND * 11 / 10);
+    }
+
+    @Test
+    void bucketRefillsOverTime() throws InterruptedException {
+        // 분당 60,000 = 1ms당 1
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60_000);
+        bucket.reserve(60_000);
+        assertThat(bucket.reserve(1)).isPositive();
+
+        Thread.sleep(100);
+
+        assertThat(bucket.reserve(10)).isZero();
+    }
+
+    @Test
+    void oversizedReservationIsCappedAtCapacity() {
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60);
+
+        assertThat(bucket.reserve(1_000)).isZero();
+        assertThat(bucket.reserve(1)).isBetween(SECOND * 9 / 10, SECOND);
+    }
+
+    @Test
+    void adjustReturnsOverestimatedTokens() {
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60);
+        bucket.reserve(60);
+
+        bucket.adjust(30);
+
+        assertThat(bucket.reserve(30)).isZero();
+    }
+
+    @Test
+    void syncAdoptsServerLimitAndKeepsLowerRemaining() {
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60);
+
+        bucket.sync(120L, 10L);
+        assertThat(bucket.reserve(10)).isZero();
+        // 분당 120 = 초당 2 → 다음 예약은 약 0.5초 대기
+        assertThat(bucket.reserve(1)).isBetween(SECOND * 4 / 10, SECOND / 2);
+
+        bucket.sync(null, 1_000L);       // 더 큰 잔여량은 무시 (보수적으로 유지)
+        assertThat(bucket.reserve(1)).isPositive();
+    }
+
+    @Test
+    void pauseHoldsReservationsUntilReset() {
+        GptRateLimiter.ReservationBucket bucket = new GptRateLimiter.ReservationBucket(60);
+
+        bucket.pauseFor(Duration.ofSeconds(2));
+
+        assertThat(bucket.reserve(1)).isBetween(SECOND * 29 / 10, SECOND * 3);
+    }
+
+    @Test
+    void concurrencyGrowsAdditivelyAndHalvesOnRateLimit() {
+        GptRateLimiter.AdaptiveConcurrencyLimit limit = new GptRateLimiter.AdaptiveConcurrencyLimit(4, 6);
+
+        for (int i = 0; i < 4; i++) {
+            limit.onSuccess();
+        }
+        assertThat(limit.limit()).isEqualTo(5);
+        for (int i = 0; i < 20; i++) {
+            limit.onSuccess();
+        }
+        assertThat(limit.limit()).isEqualTo(6);
+
+        limit.onRateLimited();
+        assertThat(limit.limit()).isEqualTo(3);
+        limit.onRateLimited();
+        limit.onRateLimited();
+        assertThat(limit.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void acquireWaitsForReleaseAtLimit() {
+        GptRateLimiter.AdaptiveConcurrencyLimit limit = new GptRateLimiter.AdaptiveConcurrencyLimit(1, 1);
+        assertThat(limit.acquire().block(Duration.ofSeconds(1))).isTrue();
+
+        AtomicBoolean granted = new AtomicBoolean();
+        limit.acquire().subscribe(permit -> granted.set(true));
+        assertThat(granted).isFalse();
+
+        limit.release();
+        assertThat(granted).isTrue();
+    }
+
+    @Test
+    void responseHeadersRecalibrateBudget() {
+        GptRateLimiter limiter = new GptRateLimiter(60, 90_000, 8, 64, 0);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-limit-requests", "120");
+        headers.add("x-ratelimit-remaining-requests", "0");
+
+        limiter.<String>execute(10, () -> Mono.just(ResponseEntity.ok().headers(headers).body("ok"))).block(Duration.ofSeconds(5));
+
+        GptRateLimiter.ReservationBucket requestBucket =
+                (GptRateLimiter.ReservationBucket) ReflectionTestUtils.getField(limiter, "requestBucket");
+        assertThat(requestBucket.reserve(1)).isBetween(SECOND * 4 / 10, SECOND / 2);
+    }
+
+    @Test
+    void rateLimitedCallIsRetriedAndHalvesConcurrency() {
+        GptRateLimiter limiter = new GptRateLimiter(3_500, 90_000, 8, 64, 3);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-reset-requests", "50ms");
+        headers.add("x-ratelimit-reset-tokens", "50ms");
+        AtomicInteger calls = new AtomicInteger();
+
+        String body = limiter.<String>execute(10, () -> calls.incrementAndGet() == 1
+                        ? Mono.error(WebClientResponseException.create(429, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8))
+                        : Mono.just(ResponseEntity.ok("ok")))
+                .map(ResponseEntity::getBody)
+                .block(Duration.ofSeconds(10));
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(calls).hasValue(2);
+        GptRateLimiter.AdaptiveConcurrencyLimit concurrency =
+                (GptRateLimiter.AdaptiveConcurrencyLimit) ReflectionTestUtils.getField(limiter, "concurrencyLimit");
+        assertThat(concurrency.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void otherErrorsAreNotRetried() {
+        GptRateLimiter limiter = new GptRateLimiter(3_500, 90_000, 8, 64, 3);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> limiter.<String>execute(10, () -> {
+                    calls.incrementAndGet();
+                    return Mono.error(WebClientResponseException.create(500, "Internal Server Error",
+                            new HttpHeaders(), new byte[0], StandardCharsets.UTF_8));
+                }).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void estimatesAsciiByFourCharactersAndHangulByCharacter() {
+        GptRateLimiter limiter = new GptRateLimiter(3_500, 90_000, 8, 64, 3);
+
+        assertThat(limiter.estimateTokens("abcdefgh")).isEqualTo(2);
+        assertThat(limiter.estimateTokens("마음을")).isEqualTo(3);
+        assertThat(limiter.estimateTokens(null)).isZero();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sg25.spring_server.global.infra.storage.blob;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저장소 키 → 경로 변환
+ * 루트 밖(../, 절대 경로), 루트 자체(빈 키), 업로드 임시 디렉터리(.staging)를 가리키는 키는 모든 연산에서 거부된다.
+ */
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path root;
+    private LocalBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createDirectories(tempDir.resolve("blobs"));
+        blobStore = new LocalBlobStore(root);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"../x", "3f/../../x", "", ".", "3f/..", ".staging/upload.tmp", ".staging", "3f/../.staging/x"})
+    void rejectsKeysOutsideBlobArea(String key) throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source"), "data");
+
+        assertThatThrownBy(() -> blobStore.stat(key)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.getResource(key)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.delete(key)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.put(key, source, "image/png")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(source).exists();
+    }
+
+    @Test
+    void rejectsAbsolutePathOutsideRoot() {
+        String key = tempDir.resolve("outside.png").toAbsolutePath().toString();
+
+        assertThatThrownBy(() -> blobStore.stat(key)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> blobStore.delete(key)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void stagingFilesCannotBeDeletedThroughKeys() throws IOException {
+        Path upload = Files.writeString(blobStore.stagingDirectory().resolve("upload.tmp"), "data");
+
+        assertThatThrownBy(() -> blobStore.delete(".staging/upload.tmp")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(upload).exists();
+    }
+
+    @Test
+    void storesValidKeyUnderRoot() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("source"), "data");
+
+        blobStore.put("3f/a2/3fa2e1.png", source, "image/png");
+
+        assertThat(root.resolve("3f/a2/3fa2e1.png")).hasContent("data");
+        assertThat(blobStore.stat("3f/a2/3fa2e1.png")).hasValueSatisfying(summary -> assertThat(summary.size()).isEqualTo(4));
+    }
+}